@@ -1,6 +1,13 @@
 package com.google.common.collect;
 
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.collect.CollectPreconditions.checkNonnegative;
+import static com.google.common.collect.ObjectArrays.checkElementsNotNull;
+
 import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
 import java.util.Objects;
 
 import javax.annotation.Nullable;
@@ -18,6 +25,99 @@ final class ByFunctionOrdering<F, T> extends Ordering<F>implements Serializable
         this.ordering = checkNotNull(ordering);
     }
 
+    /*
+     * Sorting n elements applies the function about 2 n log n times, which adds up when it parses
+     * or normalizes its input. Above this many elements, the sorting methods below instead apply it
+     * once per element up front, and sort the cached keys along with their elements.
+     */
+    static final int KEY_CACHING_THRESHOLD = 32;
+
+    @Override
+    public <E extends F> List<E> sortedCopy(Iterable<E> elements) {
+        @SuppressWarnings("unchecked") // only Es are ever stored
+        E[] array = (E[]) Iterables.toArray(elements);
+        sort(array);
+        return Lists.newArrayList(Arrays.asList(array));
+    }
+
+    @Override
+    public <E extends F> ImmutableList<E> immutableSortedCopy(Iterable<E> elements) {
+        @SuppressWarnings("unchecked") // only Es are ever stored
+        E[] array = (E[]) Iterables.toArray(elements);
+        checkElementsNotNull(array);
+        sort(array);
+        return ImmutableList.asImmutableList(array);
+    }
+
+    @Override
+    public <E extends F> List<E> leastOf(Iterable<E> iterable, int k) {
+        checkNonnegative(k, "k");
+        if (!(iterable instanceof Collection)
+                || ((Collection<E>) iterable).size() < KEY_CACHING_THRESHOLD) {
+            return super.leastOf(iterable, k);
+        }
+        KeyedTopKSelector.ByObject<T, E> selector = KeyedTopKSelector.least(k, ordering);
+        for (E element : iterable) {
+            selector.offer(function.apply(element), element);
+        }
+        return selector.topK();
+    }
+
+    /** Stably sorts array, applying the function once per element if that is worthwhile. */
+    private <E extends F> void sort(E[] array) {
+        if (array.length < KEY_CACHING_THRESHOLD) {
+            Arrays.sort(array, this);
+            return;
+        }
+        Object[] keys = new Object[array.length];
+        for (int i = 0; i < array.length; i++) {
+            keys[i] = function.apply(array[i]);
+        }
+        if (!(ordering instanceof NaturalOrdering) || !sortByPrimitiveKeys(array, keys)) {
+            sortByKeys(array, keys);
+        }
+    }
+
+    @SuppressWarnings("unchecked") // only Ts are ever stored in keys
+    private <E extends F> void sortByKeys(E[] array, Object[] keys) {
+        int[] permutation = PermutationSort.sortedPermutation(
+                array.length, (left, right) -> ordering.compare((T) keys[left], (T) keys[right]));
+        PermutationSort.apply(array, permutation);
+    }
+
+    /**
+     * If every key is an Integer, every key is a Long, or every key is a Double, sorts array by the
+     * natural order of its keys using a primitive array of them and returns true; otherwise leaves
+     * array untouched and returns false.
+     */
+    private <E extends F> boolean sortByPrimitiveKeys(E[] array, Object[] keys) {
+        long[] primitiveKeys = new long[array.length];
+        Class<?> keyClass = (keys[0] == null) ? null : keys[0].getClass();
+        for (int i = 0; i < keys.length; i++) {
+            Object key = keys[i];
+            if (key == null || key.getClass() != keyClass) {
+                return false;
+            } else if (key instanceof Integer) {
+                primitiveKeys[i] = (Integer) key;
+            } else if (key instanceof Long) {
+                primitiveKeys[i] = (Long) key;
+            } else if (key instanceof Double) {
+                // the signed order of these bits is the order of Double.compareTo
+                long bits = Double.doubleToLongBits((Double) key);
+                primitiveKeys[i] = DoubleTopKSelector.sortableBits(bits);
+            } else {
+                return false;
+            }
+        }
+        PrimitiveKeyOrdering.sortByKeys(array, primitiveKeys);
+        return true;
+    }
+
+    @Override
+    public int compare(F left, F right) {
+        return ordering.compare(function.apply(left), function.apply(right));
+    }
+
     @Override
     public boolean equals(@Nullable Object object) {
         if (object == this) {
@@ -33,7 +133,7 @@ final class ByFunctionOrdering<F, T> extends Ordering<F>implements Serializable
 
     @Override
     public int hashCode() {
-        return Objects.hashCode(function, ordering);
+        return Objects.hash(function, ordering);
     }
 
     @Override
@@ -0,0 +1,248 @@
+/*
+ * Copyright (C) 2026 The guava_learn Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.common.collect;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import javax.annotation.Nullable;
+
+/**
+ * A thread-safe accumulator that selects the "top" {@code k} elements offered to it by any number
+ * of threads, relative to a provided comparator.
+ *
+ * <p>Offers are spread over a fixed number of stripes, each a {@link TopKSelector} guarded by its
+ * own lock, so producers on different threads rarely contend. Whenever a stripe holds at least
+ * {@code k} candidates, its threshold bounds the global result as well; the lowest such threshold
+ * is published through an {@link AtomicReference}, and any element not better than it is rejected
+ * without taking a lock. Once the stream has warmed up, this is the fate of almost every element.
+ *
+ * <p>{@link #topK} may be called at any time, including while other threads are still offering
+ * elements. It briefly locks every stripe, so the result reflects exactly the offers that completed
+ * before it started, and merges the stripes with {@link TopKSelector#combine}.
+ *
+ * <p>As with {@link TopKSelector}, when multiple equivalent elements are offered it is undefined
+ * which will come first in the output.
+ */
+final class ConcurrentTopKSelector<T> {
+
+  /**
+   * Returns a {@code ConcurrentTopKSelector} that collects the lowest {@code k} elements added to
+   * it, relative to the natural ordering of the elements, and returns them via {@link #topK} in
+   * ascending order.
+   *
+   * @throws IllegalArgumentException if {@code k < 0}
+   */
+  public static <T extends Comparable<? super T>> ConcurrentTopKSelector<T> least(int k) {
+    return least(k, Ordering.natural());
+  }
+
+  /**
+   * Returns a {@code ConcurrentTopKSelector} that collects the greatest {@code k} elements added to
+   * it, relative to the natural ordering of the elements, and returns them via {@link #topK} in
+   * descending order.
+   *
+   * @throws IllegalArgumentException if {@code k < 0}
+   */
+  public static <T extends Comparable<? super T>> ConcurrentTopKSelector<T> greatest(int k) {
+    return greatest(k, Ordering.natural());
+  }
+
+  /**
+   * Returns a {@code ConcurrentTopKSelector} that collects the lowest {@code k} elements added to
+   * it, relative to the specified comparator, and returns them via {@link #topK} in ascending
+   * order.
+   *
+   * @throws IllegalArgumentException if {@code k < 0}
+   */
+  public static <T> ConcurrentTopKSelector<T> least(int k, Comparator<? super T> comparator) {
+    return new ConcurrentTopKSelector<T>(comparator, k, defaultStripes());
+  }
+
+  /**
+   * Returns a {@code ConcurrentTopKSelector} that collects the greatest {@code k} elements added to
+   * it, relative to the specified comparator, and returns them via {@link #topK} in descending
+   * order.
+   *
+   * @throws IllegalArgumentException if {@code k < 0}
+   */
+  public static <T> ConcurrentTopKSelector<T> greatest(int k, Comparator<? super T> comparator) {
+    return new ConcurrentTopKSelector<T>(
+        Ordering.from(comparator).reverse(), k, defaultStripes());
+  }
+
+  /**
+   * Returns a {@code ConcurrentTopKSelector} like {@link #least(int, Comparator)}, but using (at
+   * least) the specified number of stripes. More stripes reduce contention between producers at the
+   * cost of O(k) memory per stripe and a slower {@link #topK}.
+   *
+   * @throws IllegalArgumentException if {@code k < 0} or {@code stripes <= 0}
+   */
+  public static <T> ConcurrentTopKSelector<T> least(
+      int k, Comparator<? super T> comparator, int stripes) {
+    return new ConcurrentTopKSelector<T>(comparator, k, stripes);
+  }
+
+  private static int defaultStripes() {
+    return Runtime.getRuntime().availableProcessors();
+  }
+
+  /** Marks that no stripe is full yet, since {@code null} may be a legitimate threshold. */
+  private static final Object NO_THRESHOLD = new Object();
+
+  private final int k;
+  private final Comparator<? super T> comparator;
+  private final Stripe<T>[] stripes;
+  private final int mask;
+
+  /**
+   * The lowest threshold of any full stripe, or {@link #NO_THRESHOLD}. Only ever moves downward
+   * relative to {@code comparator}.
+   */
+  private final AtomicReference<Object> threshold = new AtomicReference<Object>(NO_THRESHOLD);
+
+  private static final class Stripe<T> {
+    final ReentrantLock lock = new ReentrantLock();
+    final TopKSelector<T> selector;
+
+    /** The threshold of {@code selector} as of the last time it was published, or NO_THRESHOLD. */
+    Object published = NO_THRESHOLD;
+
+    Stripe(TopKSelector<T> selector) {
+      this.selector = selector;
+    }
+  }
+
+  @SuppressWarnings("unchecked") // generic array creation
+  private ConcurrentTopKSelector(Comparator<? super T> comparator, int k, int stripes) {
+    this.comparator = checkNotNull(comparator, "comparator");
+    checkArgument(k >= 0, "k must be nonnegative, was %s", k);
+    checkArgument(stripes > 0, "stripes must be positive, was %s", stripes);
+    this.k = k;
+    // round up to a power of two so that a stripe can be picked with a mask
+    int size = Integer.highestOneBit(stripes - 1) << 1;
+    this.stripes = new Stripe[Math.max(size, 1)];
+    for (int i = 0; i < this.stripes.length; i++) {
+      this.stripes[i] = new Stripe<T>(TopKSelector.<T>least(k, comparator));
+    }
+    this.mask = this.stripes.length - 1;
+  }
+
+  /**
+   * Adds {@code elem} as a candidate for the top {@code k} elements. Elements that cannot be among
+   * the top {@code k} are usually rejected without locking; otherwise this takes amortized O(1)
+   * time under the lock of the calling thread's stripe.
+   */
+  @SuppressWarnings("unchecked") // only T or NO_THRESHOLD is ever stored
+  public void offer(@Nullable T elem) {
+    if (k == 0) {
+      return;
+    }
+    Object currentThreshold = threshold.get();
+    if (currentThreshold != NO_THRESHOLD && comparator.compare(elem, (T) currentThreshold) >= 0) {
+      return;
+    }
+    Stripe<T> stripe = stripes[stripeIndex()];
+    T candidate;
+    stripe.lock.lock();
+    try {
+      TopKSelector<T> selector = stripe.selector;
+      selector.offer(elem);
+      if (!selector.isFull() || selector.threshold() == stripe.published) {
+        return;
+      }
+      candidate = selector.threshold();
+      stripe.published = candidate;
+    } finally {
+      stripe.lock.unlock();
+    }
+    lowerThreshold(candidate);
+  }
+
+  private int stripeIndex() {
+    long id = Thread.currentThread().getId();
+    // spread the bits, since thread ids are usually small and sequential
+    int h = (int) (id ^ (id >>> 32)) * 0x9E3779B9;
+    return (h ^ (h >>> 16)) & mask;
+  }
+
+  @SuppressWarnings("unchecked") // only T or NO_THRESHOLD is ever stored
+  private void lowerThreshold(@Nullable T candidate) {
+    while (true) {
+      Object current = threshold.get();
+      if (current != NO_THRESHOLD && comparator.compare(candidate, (T) current) >= 0) {
+        return;
+      }
+      if (threshold.compareAndSet(current, candidate)) {
+        return;
+      }
+    }
+  }
+
+  /**
+   * Adds each member of {@code elements} as a candidate for the top {@code k} elements. This
+   * operation takes amortized linear time in the length of {@code elements}.
+   */
+  public void offerAll(Iterable<? extends T> elements) {
+    offerAll(elements.iterator());
+  }
+
+  /**
+   * Adds each member of {@code elements} as a candidate for the top {@code k} elements. This
+   * operation takes amortized linear time in the length of {@code elements}. The iterator is
+   * consumed after this operation completes.
+   */
+  public void offerAll(Iterator<? extends T> elements) {
+    while (elements.hasNext()) {
+      offer(elements.next());
+    }
+  }
+
+  /**
+   * Returns the top {@code k} elements offered to this {@code ConcurrentTopKSelector} so far, or
+   * all elements if fewer than {@code k} have been offered, in the order specified by the factory
+   * used to create this {@code ConcurrentTopKSelector}.
+   *
+   * <p>The result is a consistent snapshot: every stripe is locked at the same time while it is
+   * copied, so it reflects exactly the offers that completed before this call. Offers may continue
+   * concurrently and are blocked only for the O(k · stripes) copy; the final sort takes place after
+   * the locks are released. The returned list is an unmodifiable copy.
+   */
+  public List<T> topK() {
+    TopKSelector<T> snapshot = TopKSelector.least(k, comparator);
+    // acquire in index order, so that concurrent snapshots cannot deadlock
+    int locked = 0;
+    try {
+      for (; locked < stripes.length; locked++) {
+        stripes[locked].lock.lock();
+      }
+      for (Stripe<T> stripe : stripes) {
+        snapshot.combine(stripe.selector);
+      }
+    } finally {
+      for (int i = 0; i < locked; i++) {
+        stripes[i].lock.unlock();
+      }
+    }
+    return snapshot.topK();
+  }
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright (C) 2026 The guava_learn Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.common.collect;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.annotations.GwtCompatible;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import javax.annotation.Nullable;
+
+/**
+ * Ranks keys by exponentially time-decayed scores, as used for "trending" lists.
+ *
+ * <p>Each call to {@link #update update(key, weight, timestamp)} contributes {@code weight} to the
+ * key's score, decaying by half every {@code halfLife} time units after {@code timestamp}. The
+ * decayed score of a key at time {@code now} is thus
+ *
+ * <pre>   {@code sum(weight_i * 2^(-(now - timestamp_i) / halfLife))}</pre>
+ *
+ * <p>Scores are kept in the <i>forward decay</i> representation of Cormode et al.: each weight is
+ * scaled up by {@code 2^((timestamp_i - landmark) / halfLife)} relative to a fixed landmark time,
+ * rather than every score being scaled down as time passes. All scores share the same divisor at
+ * any query time, so their relative order never changes merely because time has passed, and an
+ * update touches only the updated key. The scaled scores are stored as logarithms so that they
+ * cannot overflow however far the clock moves from the landmark.
+ *
+ * <p>{@link #update} takes O(1) expected time and {@link #topK} takes O(keys + k log k) time using
+ * a {@link TopKSelector}, with no recomputation of scores. Timestamps may be in any unit, and need
+ * not arrive in order. Null keys are not supported. This class is not thread-safe.
+ */
+@GwtCompatible
+final class DecayedTopK<K> {
+
+  /**
+   * Returns a new, empty {@code DecayedTopK} whose scores halve every {@code halfLife} time units.
+   *
+   * @throws IllegalArgumentException if {@code halfLife} is not positive
+   */
+  public static <K> DecayedTopK<K> withHalfLife(double halfLife) {
+    checkArgument(halfLife > 0, "halfLife must be positive, was %s", halfLife);
+    return new DecayedTopK<K>(Math.log(2) / halfLife);
+  }
+
+  /** The natural logarithm of a forward-decayed score, which only ever increases. */
+  private static final class LogScore {
+    double value = Double.NEGATIVE_INFINITY;
+  }
+
+  private static final Comparator<Map.Entry<?, LogScore>> BY_SCORE =
+      new Comparator<Map.Entry<?, LogScore>>() {
+        @Override
+        public int compare(Map.Entry<?, LogScore> left, Map.Entry<?, LogScore> right) {
+          return Double.compare(left.getValue().value, right.getValue().value);
+        }
+      };
+
+  /** The decay rate per time unit, ln(2) / halfLife. */
+  private final double lambda;
+
+  private final Map<K, LogScore> scores = new HashMap<K, LogScore>();
+
+  /** The landmark time: the timestamp of the first update. */
+  private long landmark;
+
+  private boolean landmarkSet;
+
+  private DecayedTopK(double lambda) {
+    this.lambda = lambda;
+  }
+
+  /**
+   * Adds {@code weight}, observed at {@code timestamp}, to the score of {@code key}. This takes
+   * O(1) expected time.
+   *
+   * @throws IllegalArgumentException if {@code weight} is not positive
+   */
+  public void update(K key, double weight, long timestamp) {
+    checkNotNull(key);
+    checkArgument(weight > 0, "weight must be positive, was %s", weight);
+    if (!landmarkSet) {
+      landmark = timestamp;
+      landmarkSet = true;
+    }
+    LogScore score = scores.get(key);
+    if (score == null) {
+      score = new LogScore();
+      scores.put(key, score);
+    }
+    score.value = logSumExp(score.value, Math.log(weight) + lambda * (timestamp - landmark));
+  }
+
+  /** Returns log(exp(a) + exp(b)) without overflowing. */
+  private static double logSumExp(double a, double b) {
+    double max = Math.max(a, b);
+    double min = Math.min(a, b);
+    if (min == Double.NEGATIVE_INFINITY) {
+      return max;
+    }
+    return max + Math.log1p(Math.exp(min - max));
+  }
+
+  /** Returns the number of keys with a score. */
+  public int size() {
+    return scores.size();
+  }
+
+  /** Returns the decayed score of {@code key} at time {@code now}, or zero if it has none. */
+  public double score(@Nullable Object key, long now) {
+    LogScore score = scores.get(key);
+    return (score == null) ? 0.0 : Math.exp(score.value - lambda * (now - landmark));
+  }
+
+  /**
+   * Returns the {@code k} keys with the highest decayed scores, or all keys if there are fewer
+   * than {@code k}, in descending order of score. The order does not depend on the query time.
+   * When multiple keys have the same score, it is undefined which will come first.
+   *
+   * @throws IllegalArgumentException if {@code k} is negative
+   */
+  public List<K> topK(int k) {
+    TopKSelector<Map.Entry<K, LogScore>> selector = TopKSelector.greatest(k, BY_SCORE);
+    selector.offerAll(scores.entrySet());
+    List<Map.Entry<K, LogScore>> top = selector.topK();
+    Object[] keys = new Object[top.size()];
+    for (int i = 0; i < keys.length; i++) {
+      keys[i] = top.get(i).getKey();
+    }
+    return ImmutableList.asImmutableList(keys);
+  }
+
+  /**
+   * Removes every key whose decayed score at time {@code now} is below {@code minScore}, bounding
+   * memory for long-running streams. Removed keys start again from zero if they are updated later.
+   * This takes O(keys) time.
+   */
+  public void prune(long now, double minScore) {
+    double minLogScore = Math.log(minScore) + lambda * (now - landmark);
+    for (Iterator<LogScore> i = scores.values().iterator(); i.hasNext(); ) {
+      if (i.next().value < minLogScore) {
+        i.remove();
+      }
+    }
+  }
+}
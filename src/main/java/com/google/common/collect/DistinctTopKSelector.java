@@ -0,0 +1,216 @@
+/*
+ * Copyright (C) 2026 The guava_learn Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.common.collect;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.annotations.GwtCompatible;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import javax.annotation.Nullable;
+
+/**
+ * Like {@link TopKSelector}, but returns at most one element per key: the "top" {@code k} elements
+ * offered to it whose keys, as computed by a key function, are distinct. Of several elements with
+ * equal keys, only the best is a candidate; for example, the top 20 users by their best score.
+ *
+ * <p>This uses the same 2k-buffer quickselect as {@link TopKSelector}, together with a hash index
+ * from the key of each buffered element to its position. An element whose key is already buffered
+ * replaces the buffered element if it is better and is dropped otherwise, so the buffer never
+ * holds two elements with the same key. An element whose key is not buffered is dropped if it is
+ * not better than the threshold of the k best distinct keys seen so far, exactly as in {@link
+ * TopKSelector}, since any earlier element with the same key was worse still. Memory is therefore
+ * O(k) regardless of the number of distinct keys, and performance is expected O(n + k log k) for n
+ * calls to {@link #offer}, with one key function call per offer and k more per trim.
+ *
+ * <p>As with {@link TopKSelector}, when multiple equivalent elements are offered it is undefined
+ * which will come first in the output, or which of several equivalent elements with the same key
+ * is kept. Null elements are supported if the comparator and key function support them.
+ */
+@GwtCompatible
+final class DistinctTopKSelector<T, K> {
+
+  /**
+   * Returns a {@code DistinctTopKSelector} that collects the lowest {@code k} elements with
+   * distinct keys added to it, relative to the specified comparator, and returns them via {@link
+   * #topK} in ascending order.
+   *
+   * @throws IllegalArgumentException if {@code k < 0}
+   */
+  public static <T, K> DistinctTopKSelector<T, K> least(
+      int k, Comparator<? super T> comparator, Function<? super T, ? extends K> keyFunction) {
+    return new DistinctTopKSelector<T, K>(comparator, keyFunction, k);
+  }
+
+  /**
+   * Returns a {@code DistinctTopKSelector} that collects the greatest {@code k} elements with
+   * distinct keys added to it, relative to the specified comparator, and returns them via {@link
+   * #topK} in descending order.
+   *
+   * @throws IllegalArgumentException if {@code k < 0}
+   */
+  public static <T, K> DistinctTopKSelector<T, K> greatest(
+      int k, Comparator<? super T> comparator, Function<? super T, ? extends K> keyFunction) {
+    return new DistinctTopKSelector<T, K>(
+        Ordering.from(comparator).reverse(), keyFunction, k);
+  }
+
+  private final int k;
+  private final Comparator<? super T> comparator;
+  private final Function<? super T, ? extends K> keyFunction;
+
+  /*
+   * We are currently considering the elements in buffer in the range [0, bufferSize) as candidates
+   * for the top k elements, and positions maps the key of each of them to its index. Whenever the
+   * buffer is filled, we quickselect the top k elements to the range [0, k) and ignore the
+   * remaining elements.
+   */
+  private final T[] buffer;
+  private int bufferSize;
+  private final Map<K, Integer> positions;
+
+  /**
+   * An element not less than the greatest of the lowest k distinct-keyed elements we've seen so
+   * far. If bufferSize ≥ k, then we can ignore any new key whose element is not less than this
+   * value. Replacing a buffered element with a better one can leave it stale, which only means
+   * that fewer elements are ignored.
+   */
+  private T threshold;
+
+  @SuppressWarnings("unchecked") // generic array creation
+  private DistinctTopKSelector(
+      Comparator<? super T> comparator, Function<? super T, ? extends K> keyFunction, int k) {
+    this.comparator = checkNotNull(comparator, "comparator");
+    this.keyFunction = checkNotNull(keyFunction, "keyFunction");
+    checkArgument(k >= 0, "k must be nonnegative, was %s", k);
+    this.k = k;
+    this.buffer = (T[]) new Object[k * 2];
+    this.bufferSize = 0;
+    this.positions = new HashMap<K, Integer>();
+    this.threshold = null;
+  }
+
+  /**
+   * Adds {@code elem} as a candidate for the top {@code k} elements with distinct keys. This
+   * operation takes amortized O(1) time.
+   */
+  public void offer(@Nullable T elem) {
+    if (k == 0) {
+      return;
+    }
+    K key = keyFunction.apply(elem);
+    Integer position = positions.get(key);
+    if (position != null) {
+      // only the best element for each key is ever a candidate
+      if (comparator.compare(elem, buffer[position]) < 0) {
+        buffer[position] = elem;
+      }
+    } else if (bufferSize == 0) {
+      append(key, elem);
+      threshold = elem;
+    } else if (bufferSize < k) {
+      append(key, elem);
+      if (comparator.compare(elem, threshold) > 0) {
+        threshold = elem;
+      }
+    } else if (comparator.compare(elem, threshold) < 0) {
+      // Otherwise, we can ignore elem; we've seen k better elements with distinct keys.
+      append(key, elem);
+      if (bufferSize == 2 * k) {
+        trim();
+      }
+    }
+  }
+
+  private void append(K key, T elem) {
+    positions.put(key, bufferSize);
+    buffer[bufferSize++] = elem;
+  }
+
+  /**
+   * Quickselects the top k elements from the 2k elements in the buffer, and reindexes the
+   * survivors. O(k) expected time, O(k log k) worst case.
+   */
+  private void trim() {
+    Quickselect.select(buffer, 0, bufferSize, k - 1, comparator);
+    // everything before k - 1 is now no greater than buffer[k - 1]
+    Arrays.fill(buffer, k, bufferSize, null);
+    bufferSize = k;
+    threshold = buffer[k - 1];
+    reindex();
+  }
+
+  private void reindex() {
+    positions.clear();
+    for (int i = 0; i < bufferSize; i++) {
+      positions.put(keyFunction.apply(buffer[i]), i);
+    }
+  }
+
+  /**
+   * Adds each member of {@code elements} as a candidate for the top {@code k} elements with
+   * distinct keys. This operation takes amortized linear time in the length of {@code elements}.
+   */
+  public void offerAll(Iterable<? extends T> elements) {
+    offerAll(elements.iterator());
+  }
+
+  /**
+   * Adds each member of {@code elements} as a candidate for the top {@code k} elements with
+   * distinct keys. This operation takes amortized linear time in the length of {@code elements}.
+   * The iterator is consumed after this operation completes.
+   */
+  public void offerAll(Iterator<? extends T> elements) {
+    while (elements.hasNext()) {
+      offer(elements.next());
+    }
+  }
+
+  DistinctTopKSelector<T, K> combine(DistinctTopKSelector<T, K> other) {
+    for (int i = 0; i < other.bufferSize; i++) {
+      this.offer(other.buffer[i]);
+    }
+    return this;
+  }
+
+  /**
+   * Returns the top {@code k} elements with distinct keys offered to this {@code
+   * DistinctTopKSelector}, or all of them if fewer than {@code k} distinct keys have been offered,
+   * in the order specified by the factory used to create this {@code DistinctTopKSelector}.
+   *
+   * <p>The returned list is an unmodifiable copy and will not be affected by further changes to
+   * this {@code DistinctTopKSelector}. This method returns in O(k log k) time.
+   */
+  public List<T> topK() {
+    Arrays.sort(buffer, 0, bufferSize, comparator);
+    if (bufferSize > k) {
+      Arrays.fill(buffer, k, bufferSize, null);
+      bufferSize = k;
+      threshold = buffer[k - 1];
+      reindex();
+    }
+    // we have to support null elements, so no ImmutableList for us
+    return Collections.unmodifiableList(Arrays.asList(Arrays.copyOf(buffer, bufferSize)));
+  }
+}
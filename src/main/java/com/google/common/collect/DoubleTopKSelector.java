@@ -0,0 +1,141 @@
+/*
+ * Copyright (C) 2026 The guava_learn Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.common.collect;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.annotations.GwtCompatible;
+import javax.annotation.Nullable;
+
+/**
+ * A {@link TopKSelector} specialized for {@code double} values. It selects the lowest or greatest
+ * {@code k} values offered to it, relative to the total order of {@link Double#compare}, without
+ * boxing and without calling a {@code Comparator}. In particular, {@code -0.0} is less than {@code
+ * 0.0}, and {@code NaN} is greater than every other value, including positive infinity.
+ *
+ * <p>Each value is mapped to a {@code long} whose signed order matches {@link Double#compare}, and
+ * the selection is delegated to a {@link LongTopKSelector}; see that class for performance
+ * characteristics.
+ */
+@GwtCompatible
+final class DoubleTopKSelector {
+
+  /**
+   * Returns a {@code DoubleTopKSelector} that collects the lowest {@code k} values added to it, and
+   * returns them via {@link #topK} in ascending order.
+   *
+   * @throws IllegalArgumentException if {@code k < 0}
+   */
+  public static DoubleTopKSelector least(int k) {
+    return new DoubleTopKSelector(LongTopKSelector.least(k));
+  }
+
+  /**
+   * Returns a {@code DoubleTopKSelector} that collects the greatest {@code k} values added to it,
+   * and returns them via {@link #topK} in descending order.
+   *
+   * @throws IllegalArgumentException if {@code k < 0}
+   */
+  public static DoubleTopKSelector greatest(int k) {
+    return new DoubleTopKSelector(LongTopKSelector.greatest(k));
+  }
+
+  private final LongTopKSelector delegate;
+
+  /** Holds the converted values of each chunk of a bulk offer; allocated on first use. */
+  @Nullable private long[] chunk;
+
+  private DoubleTopKSelector(LongTopKSelector delegate) {
+    this.delegate = delegate;
+  }
+
+  /**
+   * Returns a {@code long} whose signed order is the order of {@link Double#compare}. Negative
+   * doubles have their magnitude bits flipped so that larger magnitudes sort lower. The mapping is
+   * its own inverse.
+   */
+  static long sortableBits(long bits) {
+    return bits ^ ((bits >> 63) & Long.MAX_VALUE);
+  }
+
+  /**
+   * Adds {@code value} as a candidate for the top {@code k} values. This operation takes amortized
+   * O(1) time.
+   */
+  public void offer(double value) {
+    delegate.offer(sortableBits(Double.doubleToLongBits(value)));
+  }
+
+  /**
+   * Adds each of {@code values} as a candidate for the top {@code k} values. This operation takes
+   * amortized linear time in the length of {@code values}.
+   */
+  public void offerAll(double... values) {
+    offerAll(values, 0, values.length);
+  }
+
+  /**
+   * Adds each of {@code values[fromIndex]} through {@code values[toIndex - 1]} as a candidate for
+   * the top {@code k} values. This operation takes amortized linear time in {@code toIndex -
+   * fromIndex}.
+   *
+   * @throws IndexOutOfBoundsException if the range is not valid for {@code values}
+   */
+  public void offerAll(double[] values, int fromIndex, int toIndex) {
+    checkNotNull(values);
+    if (fromIndex < 0 || toIndex > values.length || fromIndex > toIndex) {
+      throw new IndexOutOfBoundsException(
+          "fromIndex: " + fromIndex + ", toIndex: " + toIndex + ", length: " + values.length);
+    }
+    // convert in chunks, so that the delegate can filter each chunk in a single tight loop
+    long[] chunk = this.chunk;
+    if (chunk == null && fromIndex < toIndex) {
+      chunk = this.chunk = new long[CHUNK_SIZE];
+    }
+    for (int i = fromIndex; i < toIndex; i += CHUNK_SIZE) {
+      int length = Math.min(toIndex - i, CHUNK_SIZE);
+      for (int j = 0; j < length; j++) {
+        chunk[j] = sortableBits(Double.doubleToLongBits(values[i + j]));
+      }
+      delegate.offerAll(chunk, 0, length);
+    }
+  }
+
+  private static final int CHUNK_SIZE = 256;
+
+  DoubleTopKSelector combine(DoubleTopKSelector other) {
+    delegate.combine(other.delegate);
+    return this;
+  }
+
+  /**
+   * Returns the top {@code k} values offered to this {@code DoubleTopKSelector}, or all values if
+   * fewer than {@code k} have been offered, in the order specified by the factory used to create
+   * this {@code DoubleTopKSelector}.
+   *
+   * <p>The returned array is a fresh copy and will not be affected by further changes to this
+   * {@code DoubleTopKSelector}. This method returns in O(k log k) time.
+   */
+  public double[] topK() {
+    long[] bits = delegate.topK();
+    double[] result = new double[bits.length];
+    for (int i = 0; i < bits.length; i++) {
+      result[i] = Double.longBitsToDouble(sortableBits(bits[i]));
+    }
+    return result;
+  }
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright (C) 2026 The guava_learn Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.common.collect;
+
+import java.nio.ByteBuffer;
+import javax.annotation.Nullable;
+
+/**
+ * Converts elements to and from bytes, so that they can be spilled to disk by {@link
+ * ExternalSorter} or shipped between processes by {@link TopKSelector#writeTo}.
+ *
+ * <p>{@code decode(encode(e))} must return an element equivalent to {@code e} under whatever
+ * comparator the elements are ordered by.
+ */
+public interface ElementCodec<T> {
+  /** Returns the bytes representing {@code element}. */
+  byte[] encode(@Nullable T element);
+
+  /**
+   * Returns the element represented by the bytes between the position and the limit of {@code
+   * bytes}. The buffer is only valid for the duration of the call.
+   */
+  @Nullable
+  T decode(ByteBuffer bytes);
+}
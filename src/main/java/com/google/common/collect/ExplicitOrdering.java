@@ -1,19 +1,32 @@
 package com.google.common.collect;
 
+import static com.google.common.collect.ObjectArrays.checkElementsNotNull;
+
 import java.io.Serializable;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
 import javax.annotation.Nullable;
 
 final class ExplicitOrdering<T> extends Ordering<T>implements Serializable {
     final ImmutableMap<T, Integer> rankMap;
 
+    /**
+     * Looks up ranks without boxing. Chosen by {@link Ranker#forRanks} from the
+     * values: an array indexed by ordinal for enum constants, an array indexed
+     * by value for a small range of integers, and otherwise a hash table that
+     * is collision-free whenever a suitable multiplier can be found.
+     */
+    private final transient Ranker ranker;
+
     ExplicitOrdering(List<T> valuesInOrder) {
         this(Maps.indexMap(valuesInOrder));
     }
 
     ExplicitOrdering(ImmutableMap<T, Integer> rankMap) {
         this.rankMap = rankMap;
+        this.ranker = Ranker.forRanks(rankMap);
     }
 
     @Override
@@ -22,13 +35,235 @@ final class ExplicitOrdering<T> extends Ordering<T>implements Serializable {
     }
 
     private int rank(T value) {
-        Integer rank = rankMap.get(value);
-        if (rank == null) {
-            throw new IncomarableValueException(value);
+        int rank = ranker.rank(value);
+        if (rank < 0) {
+            throw new IncomparableValueException(value);
         }
         return rank;
     }
 
+    /**
+     * Returns the rank of each of {@code values}: its position in the list of
+     * values this ordering was created with.
+     *
+     * @throws IncomparableValueException
+     *             if any of {@code values} is not one of those values
+     */
+    int[] rank(Object[] values) {
+        int[] ranks = new int[values.length];
+        for (int i = 0; i < values.length; i++) {
+            @SuppressWarnings("unchecked") // the ranker accepts any object
+            T value = (T) values[i];
+            ranks[i] = rank(value);
+        }
+        return ranks;
+    }
+
+    /**
+     * Sorts by ranks computed once per element with {@link #rank(Object[])},
+     * rather than twice per comparison. The sort is stable.
+     */
+    @Override
+    public <E extends T> List<E> sortedCopy(Iterable<E> elements) {
+        @SuppressWarnings("unchecked") // only Es are ever stored
+        E[] array = (E[]) Iterables.toArray(elements);
+        sortByRank(array);
+        return Lists.newArrayList(Arrays.asList(array));
+    }
+
+    @Override
+    public <E extends T> ImmutableList<E> immutableSortedCopy(Iterable<E> elements) {
+        @SuppressWarnings("unchecked") // only Es are ever stored
+        E[] array = (E[]) Iterables.toArray(elements);
+        checkElementsNotNull(array);
+        sortByRank(array);
+        return ImmutableList.asImmutableList(array);
+    }
+
+    private void sortByRank(Object[] array) {
+        int[] ranks = rank(array);
+        long[] keys = new long[ranks.length];
+        for (int i = 0; i < ranks.length; i++) {
+            keys[i] = ranks[i];
+        }
+        PrimitiveKeyOrdering.sortByKeys(array, keys);
+    }
+
+    private Object readResolve() {
+        return new ExplicitOrdering<T>(rankMap);
+    }
+
+    /** Maps values to their ranks, or to -1 for values that have none. */
+    private abstract static class Ranker {
+        abstract int rank(@Nullable Object value);
+
+        /** Above this many empty slots per value, a dense integer table is not used. */
+        private static final int MAX_WASTE = 4;
+
+        /** How many multipliers to try before settling for a table with collisions. */
+        private static final int MAX_SEEDS = 64;
+
+        static Ranker forRanks(Map<?, Integer> rankMap) {
+            Object[] values = new Object[rankMap.size()];
+            for (Map.Entry<?, Integer> entry : rankMap.entrySet()) {
+                values[entry.getValue()] = entry.getKey();
+            }
+            if (values.length == 0) {
+                return new HashRanker(values, 2, MULTIPLIERS[0]);
+            }
+
+            Class<?> enumClass = (values[0] instanceof Enum)
+                    ? ((Enum<?>) values[0]).getDeclaringClass() : null;
+            boolean allIntegers = true;
+            long min = Long.MAX_VALUE;
+            long max = Long.MIN_VALUE;
+            for (Object value : values) {
+                if (enumClass != null && !(value instanceof Enum
+                        && ((Enum<?>) value).getDeclaringClass() == enumClass)) {
+                    enumClass = null;
+                }
+                if (value instanceof Integer) {
+                    min = Math.min(min, (Integer) value);
+                    max = Math.max(max, (Integer) value);
+                } else {
+                    allIntegers = false;
+                }
+            }
+            if (enumClass != null) {
+                return new EnumRanker(enumClass, values);
+            }
+            if (allIntegers && max - min < (long) MAX_WASTE * values.length + 64) {
+                return new IntRanker((int) min, (int) (max - min + 1), values);
+            }
+
+            // look for a multiplier under which no two values share a slot
+            int size = Integer.highestOneBit(values.length) * 4; // at most half full
+            for (int attempt = 0; attempt < 2; attempt++, size *= 2) {
+                int shift = Integer.numberOfLeadingZeros(size - 1);
+                for (int seed = 0; seed < MAX_SEEDS; seed++) {
+                    int multiplier = MULTIPLIERS[seed % MULTIPLIERS.length] + 2 * seed;
+                    if (isCollisionFree(values, size, multiplier, shift)) {
+                        return new HashRanker(values, size, multiplier);
+                    }
+                }
+            }
+            return new HashRanker(values, size, MULTIPLIERS[0]);
+        }
+
+        private static final int[] MULTIPLIERS = {0x9E3779B9, 0x85EBCA6B, 0xC2B2AE35, 0x27D4EB2F};
+
+        private static boolean isCollisionFree(
+                Object[] values, int size, int multiplier, int shift) {
+            boolean[] used = new boolean[size];
+            for (Object value : values) {
+                int slot = (value.hashCode() * multiplier) >>> shift;
+                if (used[slot]) {
+                    return false;
+                }
+                used[slot] = true;
+            }
+            return true;
+        }
+    }
+
+    /** Ranks enum constants through an array indexed by ordinal. */
+    private static final class EnumRanker extends Ranker {
+        final Class<?> enumClass;
+        final int[] ranksByOrdinal;
+
+        EnumRanker(Class<?> enumClass, Object[] values) {
+            this.enumClass = enumClass;
+            this.ranksByOrdinal = new int[enumClass.getEnumConstants().length];
+            Arrays.fill(ranksByOrdinal, -1);
+            for (int i = 0; i < values.length; i++) {
+                ranksByOrdinal[((Enum<?>) values[i]).ordinal()] = i;
+            }
+        }
+
+        @Override
+        int rank(@Nullable Object value) {
+            if (value instanceof Enum && ((Enum<?>) value).getDeclaringClass() == enumClass) {
+                return ranksByOrdinal[((Enum<?>) value).ordinal()];
+            }
+            return -1;
+        }
+    }
+
+    /** Ranks integers in a small range through an array indexed by value. */
+    private static final class IntRanker extends Ranker {
+        final int min;
+        final int[] ranks;
+
+        IntRanker(int min, int range, Object[] values) {
+            this.min = min;
+            this.ranks = new int[range];
+            Arrays.fill(ranks, -1);
+            for (int i = 0; i < values.length; i++) {
+                ranks[(Integer) values[i] - min] = i;
+            }
+        }
+
+        @Override
+        int rank(@Nullable Object value) {
+            if (value instanceof Integer) {
+                long index = (long) (Integer) value - min;
+                if (index >= 0 && index < ranks.length) {
+                    return ranks[(int) index];
+                }
+            }
+            return -1;
+        }
+    }
+
+    /**
+     * Ranks arbitrary values through an open-addressed hash table. When the
+     * multiplier is collision-free, every lookup probes exactly one slot, and
+     * an identical (for example, interned) value is found without calling
+     * {@code equals}.
+     */
+    private static final class HashRanker extends Ranker {
+        final Object[] keys;
+        final int[] ranks;
+        final int multiplier;
+        final int shift;
+        final int mask;
+
+        HashRanker(Object[] values, int size, int multiplier) {
+            this.keys = new Object[size];
+            this.ranks = new int[size];
+            this.multiplier = multiplier;
+            this.shift = Integer.numberOfLeadingZeros(size - 1);
+            this.mask = size - 1;
+            for (int i = 0; i < values.length; i++) {
+                int slot = slot(values[i]);
+                while (keys[slot] != null) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = values[i];
+                ranks[slot] = i;
+            }
+        }
+
+        private int slot(Object value) {
+            return (value.hashCode() * multiplier) >>> shift;
+        }
+
+        @Override
+        int rank(@Nullable Object value) {
+            if (value == null) {
+                return -1;
+            }
+            for (int slot = slot(value); ; slot = (slot + 1) & mask) {
+                Object key = keys[slot];
+                if (key == null) {
+                    return -1;
+                } else if (key == value || key.equals(value)) {
+                    return ranks[slot];
+                }
+            }
+        }
+    }
+
     @Override
     public boolean equals(@Nullable Object object){
         if(object instanceof ExplicitOrdering){
@@ -0,0 +1,422 @@
+/*
+ * Copyright (C) 2026 The guava_learn Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.common.collect;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.collect.CollectPreconditions.checkNonnegative;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import javax.annotation.Nullable;
+
+/**
+ * Sorts, or selects the least elements of, inputs too large to fit in memory, relative to a
+ * provided comparator.
+ *
+ * <p>The input is read in chunks of at most {@link #withMaxElementsInMemory maxElementsInMemory}
+ * elements. Each chunk is sorted in memory and spilled to a temporary file as a sorted <i>run</i>,
+ * using a caller-supplied {@link ElementCodec} to turn elements into bytes. Runs are written
+ * through a {@link FileChannel} and read back through memory-mapped buffers, and are combined by a
+ * k-way merge driven by the comparator. If there are more runs than {@link #withMaxMergeWidth
+ * maxMergeWidth}, they are first merged in groups into longer runs, so that the number of open
+ * files stays bounded. Inputs that fit in a single chunk never touch the disk.
+ *
+ * <p>Results are streamed back through a {@link SortedIterator}, which deletes its temporary files
+ * once it is exhausted or {@linkplain SortedIterator#close closed}. I/O failures while iterating
+ * are reported as {@link UncheckedIOException}.
+ *
+ * <p>Like {@link Ordering#sortedCopy}, the sort is <i>stable</i>: runs hold consecutive chunks of
+ * the input, and the merge breaks ties in favor of the earlier run. So is the selection made by
+ * {@link #leastOf}, whether in memory or on disk.
+ *
+ * <p>Instances are immutable; the {@code with*} methods return modified copies.
+ */
+public final class ExternalSorter<T> {
+
+  private static final int DEFAULT_MAX_ELEMENTS_IN_MEMORY = 1 << 20;
+  private static final int DEFAULT_MAX_MERGE_WIDTH = 256;
+  private static final int WRITE_BUFFER_SIZE = 1 << 16;
+  private static final long MAP_WINDOW_SIZE = 1L << 26;
+
+  /**
+   * Returns an {@code ExternalSorter} that orders elements by {@code comparator}, using {@code
+   * codec} to store them in temporary files in the default temporary-file directory.
+   */
+  public static <T> ExternalSorter<T> create(
+      Comparator<? super T> comparator, ElementCodec<T> codec) {
+    return new ExternalSorter<T>(
+        comparator, codec, DEFAULT_MAX_ELEMENTS_IN_MEMORY, DEFAULT_MAX_MERGE_WIDTH, null);
+  }
+
+  private final Comparator<? super T> comparator;
+  private final ElementCodec<T> codec;
+  private final int maxElementsInMemory;
+  private final int maxMergeWidth;
+  @Nullable private final Path tempDirectory;
+
+  private ExternalSorter(
+      Comparator<? super T> comparator,
+      ElementCodec<T> codec,
+      int maxElementsInMemory,
+      int maxMergeWidth,
+      @Nullable Path tempDirectory) {
+    this.comparator = checkNotNull(comparator, "comparator");
+    this.codec = checkNotNull(codec, "codec");
+    this.maxElementsInMemory = maxElementsInMemory;
+    this.maxMergeWidth = maxMergeWidth;
+    this.tempDirectory = tempDirectory;
+  }
+
+  /**
+   * Returns a copy of this sorter that holds at most {@code maxElementsInMemory} input elements in
+   * memory at a time, which is also the length of each initial run.
+   *
+   * @throws IllegalArgumentException if {@code maxElementsInMemory} is not positive
+   */
+  public ExternalSorter<T> withMaxElementsInMemory(int maxElementsInMemory) {
+    checkArgument(
+        maxElementsInMemory > 0,
+        "maxElementsInMemory must be positive, was %s",
+        maxElementsInMemory);
+    return new ExternalSorter<T>(
+        comparator, codec, maxElementsInMemory, maxMergeWidth, tempDirectory);
+  }
+
+  /**
+   * Returns a copy of this sorter that merges at most {@code maxMergeWidth} runs at a time.
+   *
+   * @throws IllegalArgumentException if {@code maxMergeWidth < 2}
+   */
+  public ExternalSorter<T> withMaxMergeWidth(int maxMergeWidth) {
+    checkArgument(maxMergeWidth >= 2, "maxMergeWidth must be at least 2, was %s", maxMergeWidth);
+    return new ExternalSorter<T>(
+        comparator, codec, maxElementsInMemory, maxMergeWidth, tempDirectory);
+  }
+
+  /** Returns a copy of this sorter that creates its temporary files in {@code tempDirectory}. */
+  public ExternalSorter<T> withTempDirectory(Path tempDirectory) {
+    return new ExternalSorter<T>(
+        comparator, codec, maxElementsInMemory, maxMergeWidth, checkNotNull(tempDirectory));
+  }
+
+  /**
+   * Returns an iterator over all of {@code elements}, sorted. {@code elements} is exhausted before
+   * this method returns.
+   *
+   * @throws IOException if a temporary run file cannot be written
+   */
+  public SortedIterator<T> sort(Iterator<? extends T> elements) throws IOException {
+    return leastOf(elements, Long.MAX_VALUE);
+  }
+
+  /**
+   * Returns an iterator over the {@code k} least of {@code elements}, sorted, or all of them if
+   * there are fewer than {@code k}. {@code elements} is exhausted before this method returns.
+   *
+   * <p>If {@code k} is at most half of {@code maxElementsInMemory}, the selection is made in memory,
+   * keeping at most 2k candidates and breaking ties in favor of the element read first. Otherwise
+   * each run is truncated to its first {@code k} elements before it is spilled, and the merge stops
+   * after {@code k} elements.
+   *
+   * @throws IllegalArgumentException if {@code k} is negative
+   * @throws IOException if a temporary run file cannot be written
+   */
+  public SortedIterator<T> leastOf(Iterator<? extends T> elements, long k) throws IOException {
+    checkNotNull(elements);
+    checkNonnegative(k, "k");
+    if (k <= maxElementsInMemory / 2) {
+      // each element is its own key
+      KeyedTopKSelector.ByObject<T, T> selector = KeyedTopKSelector.least((int) k, comparator);
+      while (elements.hasNext()) {
+        T element = elements.next();
+        selector.offer(element, element);
+      }
+      return new SortedIterator<T>(selector.topK().iterator(), k, ImmutableList.<Run<T>>of());
+    }
+
+    // every run file created, so that all of them can be deleted if anything fails
+    List<Run<T>> created = new ArrayList<Run<T>>();
+    try {
+      List<Run<T>> runs = new ArrayList<Run<T>>();
+      Object[] chunk = new Object[maxElementsInMemory];
+      while (elements.hasNext()) {
+        int size = 0;
+        while (size < chunk.length && elements.hasNext()) {
+          chunk[size++] = elements.next();
+        }
+        @SuppressWarnings("unchecked") // chunk only holds Ts
+        T[] sorted = (T[]) chunk;
+        Arrays.sort(sorted, 0, size, comparator);
+        int length = (int) Math.min(size, k);
+        if (runs.isEmpty() && !elements.hasNext()) {
+          // Everything fit in memory; skip the disk entirely.
+          List<T> inMemory = Arrays.asList(sorted).subList(0, length);
+          return new SortedIterator<T>(inMemory.iterator(), k, ImmutableList.<Run<T>>of());
+        }
+        Run<T> run = writeRun(Arrays.asList(sorted).subList(0, length).iterator(), k);
+        created.add(run);
+        runs.add(run);
+        Arrays.fill(chunk, null);
+      }
+      while (runs.size() > maxMergeWidth) {
+        List<Run<T>> merged = new ArrayList<Run<T>>();
+        for (int i = 0; i < runs.size(); i += maxMergeWidth) {
+          List<Run<T>> group = runs.subList(i, Math.min(i + maxMergeWidth, runs.size()));
+          SortedIterator<T> groupIterator = merge(new ArrayList<Run<T>>(group), k);
+          try {
+            Run<T> run = writeRun(groupIterator, k);
+            created.add(run);
+            merged.add(run);
+          } finally {
+            groupIterator.close();
+          }
+        }
+        runs = merged;
+      }
+      return merge(runs, k);
+    } catch (IOException | RuntimeException e) {
+      for (Run<T> run : created) {
+        run.closeQuietly();
+      }
+      throw e;
+    }
+  }
+
+  /** Writes up to {@code limit} elements of {@code sorted} to a new run file. */
+  private Run<T> writeRun(Iterator<T> sorted, long limit) throws IOException {
+    Path file =
+        (tempDirectory == null)
+            ? Files.createTempFile("sorted-run", ".tmp")
+            : Files.createTempFile(tempDirectory, "sorted-run", ".tmp");
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+      ByteBuffer buffer = ByteBuffer.allocateDirect(WRITE_BUFFER_SIZE);
+      for (long written = 0; written < limit && sorted.hasNext(); written++) {
+        byte[] bytes = codec.encode(sorted.next());
+        int recordSize = 4 + bytes.length;
+        if (buffer.remaining() < recordSize) {
+          writeFully(channel, buffer);
+        }
+        if (recordSize > buffer.capacity()) {
+          ByteBuffer record = ByteBuffer.allocate(recordSize);
+          record.putInt(bytes.length).put(bytes);
+          writeFully(channel, record);
+        } else {
+          buffer.putInt(bytes.length).put(bytes);
+        }
+      }
+      writeFully(channel, buffer);
+    } catch (IOException | RuntimeException e) {
+      Files.deleteIfExists(file);
+      throw e;
+    }
+    return new Run<T>(file, codec);
+  }
+
+  private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+    buffer.flip();
+    while (buffer.hasRemaining()) {
+      channel.write(buffer);
+    }
+    buffer.clear();
+  }
+
+  private SortedIterator<T> merge(List<Run<T>> runs, long limit) throws IOException {
+    final Comparator<? super T> comparator = this.comparator;
+    PriorityQueue<Run<T>> queue =
+        new PriorityQueue<Run<T>>(
+            Math.max(runs.size(), 1),
+            new Comparator<Run<T>>() {
+              @Override
+              public int compare(Run<T> left, Run<T> right) {
+                int result = comparator.compare(left.head, right.head);
+                // ties go to the earlier run, which keeps the sort stable
+                return (result != 0) ? result : Integer.compare(left.index, right.index);
+              }
+            });
+    for (int i = 0; i < runs.size(); i++) {
+      Run<T> run = runs.get(i);
+      run.index = i;
+      if (run.open()) {
+        queue.add(run);
+      }
+    }
+    return new SortedIterator<T>(new MergingIterator<T>(queue), limit, runs);
+  }
+
+  /**
+   * An iterator over sorted results that may be backed by temporary files. The files are deleted
+   * when the iterator is exhausted or closed, whichever comes first.
+   */
+  public static final class SortedIterator<T> implements Iterator<T>, Closeable {
+    private final Iterator<T> delegate;
+    private final List<Run<T>> runs;
+    private long remaining;
+    private boolean closed;
+
+    private SortedIterator(Iterator<T> delegate, long limit, List<Run<T>> runs) {
+      this.delegate = delegate;
+      this.remaining = limit;
+      this.runs = runs;
+    }
+
+    @Override
+    public boolean hasNext() {
+      if (!closed && remaining > 0 && delegate.hasNext()) {
+        return true;
+      }
+      close();
+      return false;
+    }
+
+    @Override
+    public T next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      remaining--;
+      return delegate.next();
+    }
+
+    /** Deletes any temporary files backing this iterator. Further calls to hasNext return false. */
+    @Override
+    public void close() {
+      if (!closed) {
+        closed = true;
+        for (Run<T> run : runs) {
+          run.closeQuietly();
+        }
+      }
+    }
+  }
+
+  private static final class MergingIterator<T> implements Iterator<T> {
+    private final PriorityQueue<Run<T>> queue;
+
+    MergingIterator(PriorityQueue<Run<T>> queue) {
+      this.queue = queue;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return !queue.isEmpty();
+    }
+
+    @Override
+    public T next() {
+      Run<T> run = queue.poll();
+      if (run == null) {
+        throw new NoSuchElementException();
+      }
+      T result = run.head;
+      try {
+        if (run.advance()) {
+          queue.add(run);
+        }
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+      return result;
+    }
+  }
+
+  /**
+   * A run file of length-prefixed records, read back through a sliding memory-mapped window. {@link
+   * #head} is the record most recently decoded.
+   */
+  private static final class Run<T> {
+    final Path file;
+    final ElementCodec<T> codec;
+    int index;
+
+    FileChannel channel;
+    long size;
+    long position;
+    long windowStart;
+    MappedByteBuffer window;
+    T head;
+
+    Run(Path file, ElementCodec<T> codec) {
+      this.file = file;
+      this.codec = codec;
+    }
+
+    /** Opens the file and decodes its first record; returns false if it is empty. */
+    boolean open() throws IOException {
+      channel = FileChannel.open(file, StandardOpenOption.READ);
+      size = channel.size();
+      return advance();
+    }
+
+    /** Decodes the next record into head; returns false, and closes the run, at end of file. */
+    boolean advance() throws IOException {
+      if (position >= size) {
+        closeQuietly();
+        return false;
+      }
+      ensureMapped(4);
+      int length = window.getInt((int) (position - windowStart));
+      ensureMapped(4 + length);
+      ByteBuffer record = window.duplicate();
+      int offset = (int) (position - windowStart) + 4;
+      record.limit(offset + length).position(offset);
+      head = codec.decode(record.slice());
+      position += 4 + length;
+      return true;
+    }
+
+    /** Makes sure that [position, position + bytes) lies within the mapped window. */
+    private void ensureMapped(int bytes) throws IOException {
+      if (window == null || position + bytes > windowStart + window.limit()) {
+        long length = Math.min(Math.max(MAP_WINDOW_SIZE, bytes), size - position);
+        window = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+        windowStart = position;
+      }
+    }
+
+    void closeQuietly() {
+      head = null;
+      window = null;
+      try {
+        if (channel != null) {
+          channel.close();
+        }
+      } catch (IOException ignored) {
+        // nothing useful to do; the file is deleted regardless
+      }
+      try {
+        Files.deleteIfExists(file);
+      } catch (IOException ignored) {
+        // the file lives in a temporary directory, so it will be cleaned up eventually
+      }
+    }
+  }
+}
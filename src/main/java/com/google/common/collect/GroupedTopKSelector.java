@@ -0,0 +1,198 @@
+/*
+ * Copyright (C) 2026 The guava_learn Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.common.collect;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.annotations.GwtCompatible;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import javax.annotation.Nullable;
+
+/**
+ * Selects the "top" {@code k} values offered to it for each of any number of keys, relative to a
+ * single shared comparator: for example, the five best-selling products in each category.
+ *
+ * <p>Each group uses the same 2k-buffer quickselect as {@link TopKSelector}, but its buffer starts
+ * with room for a single value and doubles only as values arrive, up to 2k. A group that only ever
+ * sees one value therefore costs a small object and a one-element array, rather than a full {@code
+ * TopKSelector}. For n calls to {@link #offer} and a call to {@link #topK}, this takes expected
+ * O(n + g·k log k) time for g groups, and O(g·k) memory in the worst case.
+ *
+ * <p>As with {@link TopKSelector}, when multiple equivalent values are offered for a group it is
+ * undefined which will come first in the output. Null keys are not supported; null values are
+ * supported if the comparator supports them. This class is not thread-safe, but partial results
+ * built on separate threads may be merged with {@link #combine}.
+ */
+@GwtCompatible
+final class GroupedTopKSelector<K, V> {
+
+  /**
+   * Returns a {@code GroupedTopKSelector} that collects the lowest {@code k} values offered for each
+   * key, relative to the specified comparator, and returns them via {@link #topK} in ascending
+   * order.
+   *
+   * @throws IllegalArgumentException if {@code k < 0}
+   */
+  public static <K, V> GroupedTopKSelector<K, V> least(int k, Comparator<? super V> comparator) {
+    return new GroupedTopKSelector<K, V>(comparator, k);
+  }
+
+  /**
+   * Returns a {@code GroupedTopKSelector} that collects the greatest {@code k} values offered for
+   * each key, relative to the specified comparator, and returns them via {@link #topK} in
+   * descending order.
+   *
+   * @throws IllegalArgumentException if {@code k < 0}
+   */
+  public static <K, V> GroupedTopKSelector<K, V> greatest(int k, Comparator<? super V> comparator) {
+    return new GroupedTopKSelector<K, V>(Ordering.from(comparator).reverse(), k);
+  }
+
+  private static final Object[] EMPTY_BUFFER = new Object[0];
+
+  /**
+   * The candidates for one key. As in {@link TopKSelector}, buffer[0, size) holds the candidates,
+   * and once size ≥ k, values not less than threshold can be ignored.
+   */
+  private static final class Group {
+    Object[] buffer = EMPTY_BUFFER;
+    int size;
+    @Nullable Object threshold;
+  }
+
+  private final int k;
+  private final Comparator<? super V> comparator;
+  private final Map<K, Group> groups = new HashMap<K, Group>();
+
+  private GroupedTopKSelector(Comparator<? super V> comparator, int k) {
+    this.comparator = checkNotNull(comparator, "comparator");
+    checkArgument(k >= 0, "k must be nonnegative, was %s", k);
+    this.k = k;
+  }
+
+  /**
+   * Adds {@code value} as a candidate for the top {@code k} values of {@code key}. This operation
+   * takes amortized O(1) time.
+   */
+  public void offer(K key, @Nullable V value) {
+    checkNotNull(key);
+    if (k == 0) {
+      return;
+    }
+    Group group = groups.get(key);
+    if (group == null) {
+      group = new Group();
+      groups.put(key, group);
+    }
+    offer(group, value);
+  }
+
+  @SuppressWarnings("unchecked") // only Vs are ever stored
+  private void offer(Group group, @Nullable V value) {
+    if (group.size == 0) {
+      append(group, value);
+      group.threshold = value;
+    } else if (group.size < k) {
+      append(group, value);
+      if (comparator.compare(value, (V) group.threshold) > 0) {
+        group.threshold = value;
+      }
+    } else if (comparator.compare(value, (V) group.threshold) < 0) {
+      // Otherwise, we can ignore value; we've seen k better values for this group.
+      append(group, value);
+      if (group.size == 2 * k) {
+        trim(group);
+      }
+    }
+  }
+
+  private void append(Group group, @Nullable V value) {
+    if (group.size == group.buffer.length) {
+      int newLength = Math.min(Math.max(group.size * 2, 1), 2 * k);
+      group.buffer = Arrays.copyOf(group.buffer, newLength);
+    }
+    group.buffer[group.size++] = value;
+  }
+
+  /**
+   * Quickselects the top k values of a group from the 2k values in its buffer. O(k) expected time,
+   * O(k log k) worst case.
+   */
+  @SuppressWarnings("unchecked") // only Vs are ever stored
+  private void trim(Group group) {
+    V[] buffer = (V[]) group.buffer;
+    Quickselect.select(buffer, 0, group.size, k - 1, comparator);
+    // everything before k - 1 is now no greater than buffer[k - 1]
+    Arrays.fill(buffer, k, group.size, null);
+    group.size = k;
+    group.threshold = buffer[k - 1];
+  }
+
+  /**
+   * Merges the candidates of {@code other}, which must have been created with the same {@code k}
+   * and comparator, into this selector. Groups that only {@code other} has seen are adopted without
+   * copying, so {@code other} must not be used afterwards.
+   */
+  @SuppressWarnings("unchecked") // only Vs are ever stored
+  GroupedTopKSelector<K, V> combine(GroupedTopKSelector<K, V> other) {
+    for (Map.Entry<K, Group> entry : other.groups.entrySet()) {
+      Group otherGroup = entry.getValue();
+      Group group = groups.get(entry.getKey());
+      if (group == null) {
+        groups.put(entry.getKey(), otherGroup);
+      } else {
+        for (int i = 0; i < otherGroup.size; i++) {
+          offer(group, (V) otherGroup.buffer[i]);
+        }
+      }
+    }
+    return this;
+  }
+
+  /**
+   * Returns the top {@code k} values offered for each key, or all of them if fewer than {@code k}
+   * have been offered, in the order specified by the factory used to create this {@code
+   * GroupedTopKSelector}. Each key that has been offered a value maps to a nonempty unmodifiable
+   * list, which may contain nulls, unless {@code k} is zero, in which case the map is empty.
+   *
+   * <p>The returned map is an unmodifiable copy, in no particular order. This method returns in
+   * O(g·k log k) time for g groups.
+   */
+  @SuppressWarnings("unchecked") // only Vs are ever stored
+  public Map<K, List<V>> topK() {
+    Map<K, List<V>> result = new HashMap<K, List<V>>();
+    for (Map.Entry<K, Group> entry : groups.entrySet()) {
+      Group group = entry.getValue();
+      Arrays.sort((V[]) group.buffer, 0, group.size, comparator);
+      if (group.size > k) {
+        Arrays.fill(group.buffer, k, group.size, null);
+        group.size = k;
+        group.threshold = group.buffer[k - 1];
+      }
+      // not an ImmutableList, which would reject null values
+      V[] copy = (V[]) Arrays.copyOf(group.buffer, group.size);
+      result.put(entry.getKey(), Collections.unmodifiableList(Arrays.asList(copy)));
+    }
+    return Collections.unmodifiableMap(result);
+  }
+}
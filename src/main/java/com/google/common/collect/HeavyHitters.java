@@ -0,0 +1,392 @@
+/*
+ * Copyright (C) 2026 The guava_learn Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.common.collect;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.collect.CollectPreconditions.checkNonnegative;
+import static com.google.common.collect.CollectPreconditions.checkPositive;
+
+import com.google.common.annotations.GwtCompatible;
+import java.util.AbstractCollection;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import javax.annotation.Nullable;
+
+/**
+ * A bounded-memory summary of the most frequent elements of a stream, using the <i>Space-Saving</i>
+ * algorithm of Metwally, Agrawal and El Abbadi.
+ *
+ * <p>At most {@code capacity} distinct elements are tracked at any time. When an untracked element
+ * arrives and the summary is full, it takes over the counter of the tracked element with the
+ * lowest count, inheriting that count as its <i>error</i>. As a result, for every tracked element
+ *
+ * <pre>   {@code estimatedCount(e) - errorBound(e) <= true count of e <= estimatedCount(e)}</pre>
+ *
+ * <p>and every element occurring more than {@code totalCount() / capacity} times is guaranteed to
+ * be tracked. Memory is O(capacity) regardless of the number of distinct elements, and each {@link
+ * #add} takes O(log capacity) time.
+ *
+ * <p>{@link #asMultiset} offers a read-only {@link Multiset} view of the tracked elements with
+ * their estimated counts, and {@link #topK} returns the most frequent of them. Null elements are
+ * not supported. This class is not thread-safe.
+ */
+@GwtCompatible
+final class HeavyHitters<E> {
+
+  /**
+   * Returns a new summary tracking at most {@code capacity} distinct elements. To find the top
+   * {@code k} elements reliably, a capacity several times {@code k} is recommended.
+   *
+   * @throws IllegalArgumentException if {@code capacity} is not positive
+   */
+  public static <E> HeavyHitters<E> create(int capacity) {
+    return new HeavyHitters<E>(capacity);
+  }
+
+  private static final class Counter<E> {
+    E element;
+    long count;
+    long error;
+    int heapIndex;
+
+    Counter(E element, long count, long error, int heapIndex) {
+      this.element = element;
+      this.count = count;
+      this.error = error;
+      this.heapIndex = heapIndex;
+    }
+  }
+
+  private final int capacity;
+  private final Map<E, Counter<E>> counters;
+
+  /*
+   * A binary min-heap of the counters, ordered by count, so that the counter to be taken over by a
+   * new element is always heap[0]. Counts only ever increase, so an update only needs to sift down.
+   */
+  private final Counter<E>[] heap;
+  private int size;
+  private long totalCount;
+
+  @SuppressWarnings("unchecked") // generic array creation
+  private HeavyHitters(int capacity) {
+    checkPositive(capacity, "capacity");
+    this.capacity = capacity;
+    this.counters = new HashMap<E, Counter<E>>();
+    this.heap = new Counter[capacity];
+  }
+
+  /** Records one occurrence of {@code element}. */
+  public void add(E element) {
+    add(element, 1);
+  }
+
+  /**
+   * Records {@code occurrences} occurrences of {@code element}.
+   *
+   * @throws IllegalArgumentException if {@code occurrences} is negative
+   */
+  public void add(E element, int occurrences) {
+    checkNotNull(element);
+    checkNonnegative(occurrences, "occurrences");
+    if (occurrences == 0) {
+      return;
+    }
+    totalCount += occurrences;
+    Counter<E> counter = counters.get(element);
+    if (counter != null) {
+      counter.count += occurrences;
+      siftDown(counter.heapIndex);
+    } else if (size < capacity) {
+      counter = new Counter<E>(element, occurrences, 0, size);
+      heap[size] = counter;
+      siftUp(size++);
+      counters.put(element, counter);
+    } else {
+      counter = heap[0];
+      counters.remove(counter.element);
+      counter.element = element;
+      counter.error = counter.count;
+      counter.count += occurrences;
+      counters.put(element, counter);
+      siftDown(0);
+    }
+  }
+
+  private void siftUp(int index) {
+    Counter<E> counter = heap[index];
+    while (index > 0) {
+      int parent = (index - 1) >>> 1;
+      if (heap[parent].count <= counter.count) {
+        break;
+      }
+      place(heap[parent], index);
+      index = parent;
+    }
+    place(counter, index);
+  }
+
+  private void siftDown(int index) {
+    Counter<E> counter = heap[index];
+    while (true) {
+      int child = 2 * index + 1;
+      if (child >= size) {
+        break;
+      }
+      if (child + 1 < size && heap[child + 1].count < heap[child].count) {
+        child++;
+      }
+      if (counter.count <= heap[child].count) {
+        break;
+      }
+      place(heap[child], index);
+      index = child;
+    }
+    place(counter, index);
+  }
+
+  private void place(Counter<E> counter, int index) {
+    heap[index] = counter;
+    counter.heapIndex = index;
+  }
+
+  /** Returns the total number of occurrences recorded, including those of untracked elements. */
+  public long totalCount() {
+    return totalCount;
+  }
+
+  /**
+   * Returns an upper bound on the number of occurrences of {@code element}, or zero if it is not
+   * currently tracked.
+   */
+  public long estimatedCount(@Nullable Object element) {
+    Counter<E> counter = counters.get(element);
+    return (counter == null) ? 0 : counter.count;
+  }
+
+  /**
+   * Returns the maximum amount by which {@link #estimatedCount} may overestimate the number of
+   * occurrences of {@code element}, or zero if it is not currently tracked.
+   */
+  public long errorBound(@Nullable Object element) {
+    Counter<E> counter = counters.get(element);
+    return (counter == null) ? 0 : counter.error;
+  }
+
+  /**
+   * Returns the {@code k} tracked elements with the highest estimated counts, as entries in
+   * descending order of count. When multiple elements have the same count, it is undefined which
+   * will come first. Counts above {@link Integer#MAX_VALUE} are saturated.
+   *
+   * @throws IllegalArgumentException if {@code k} is negative
+   */
+  public List<Multiset.Entry<E>> topK(int k) {
+    TopKSelector<Counter<E>> selector = TopKSelector.greatest(k, BY_COUNT);
+    for (int i = 0; i < size; i++) {
+      selector.offer(heap[i]);
+    }
+    List<Counter<E>> top = selector.topK();
+    Object[] entries = new Object[top.size()];
+    for (int i = 0; i < entries.length; i++) {
+      entries[i] = entry(top.get(i));
+    }
+    return ImmutableList.asImmutableList(entries);
+  }
+
+  private static final Comparator<Counter<?>> BY_COUNT =
+      new Comparator<Counter<?>>() {
+        @Override
+        public int compare(Counter<?> left, Counter<?> right) {
+          return Long.compare(left.count, right.count);
+        }
+      };
+
+  private static <E> Multiset.Entry<E> entry(Counter<E> counter) {
+    return Multisets.immutableEntry(counter.element, saturatedCast(counter.count));
+  }
+
+  private static int saturatedCast(long value) {
+    return (int) Math.min(value, Integer.MAX_VALUE);
+  }
+
+  private transient Multiset<E> multisetView;
+
+  /**
+   * Returns an unmodifiable view of the tracked elements as a multiset, with each element's count
+   * being its {@linkplain #estimatedCount estimated count}, saturated to {@link Integer#MAX_VALUE}.
+   * The view reflects later calls to {@link #add}.
+   */
+  public Multiset<E> asMultiset() {
+    Multiset<E> result = multisetView;
+    return (result == null) ? multisetView = new MultisetView() : result;
+  }
+
+  private final class MultisetView extends AbstractCollection<E> implements Multiset<E> {
+    @Override
+    public int size() {
+      long total = 0;
+      for (int i = 0; i < HeavyHitters.this.size; i++) {
+        total += saturatedCast(heap[i].count);
+      }
+      return saturatedCast(total);
+    }
+
+    @Override
+    public int count(@Nullable Object element) {
+      return saturatedCast(estimatedCount(element));
+    }
+
+    @Override
+    public boolean contains(@Nullable Object element) {
+      return counters.containsKey(element);
+    }
+
+    @Override
+    public boolean containsAll(Collection<?> elements) {
+      return counters.keySet().containsAll(elements);
+    }
+
+    @Override
+    public Set<E> elementSet() {
+      return Collections.unmodifiableSet(counters.keySet());
+    }
+
+    @Override
+    public Set<Entry<E>> entrySet() {
+      return new AbstractSet<Entry<E>>() {
+        @Override
+        public Iterator<Entry<E>> iterator() {
+          final Iterator<Counter<E>> counterIterator = counters.values().iterator();
+          return new Iterator<Entry<E>>() {
+            @Override
+            public boolean hasNext() {
+              return counterIterator.hasNext();
+            }
+
+            @Override
+            public Entry<E> next() {
+              return entry(counterIterator.next());
+            }
+          };
+        }
+
+        @Override
+        public int size() {
+          return counters.size();
+        }
+      };
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+      final Iterator<Counter<E>> counterIterator = counters.values().iterator();
+      return new Iterator<E>() {
+        E element;
+        int remaining;
+
+        @Override
+        public boolean hasNext() {
+          return remaining > 0 || counterIterator.hasNext();
+        }
+
+        @Override
+        public E next() {
+          if (remaining == 0) {
+            if (!counterIterator.hasNext()) {
+              throw new NoSuchElementException();
+            }
+            Counter<E> counter = counterIterator.next();
+            element = counter.element;
+            remaining = saturatedCast(counter.count);
+          }
+          remaining--;
+          return element;
+        }
+      };
+    }
+
+    @Override
+    public int add(@Nullable E element, int occurrences) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean add(E element) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public int remove(@Nullable Object element, int occurrences) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean remove(@Nullable Object element) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> elements) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> elements) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public int setCount(E element, int count) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean setCount(E element, int oldCount, int newCount) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean equals(@Nullable Object object) {
+      if (object == this) {
+        return true;
+      }
+      if (object instanceof Multiset) {
+        Multiset<?> that = (Multiset<?>) object;
+        return entrySet().equals(that.entrySet());
+      }
+      return false;
+    }
+
+    @Override
+    public int hashCode() {
+      return entrySet().hashCode();
+    }
+
+    @Override
+    public String toString() {
+      return entrySet().toString();
+    }
+  }
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright (C) 2026 The guava_learn Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.common.collect;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Assigns {@code int} ids to objects by identity, holding the objects weakly, for {@link
+ * Ordering#arbitrary} to break ties between objects with equal identity hash codes.
+ *
+ * <p>The table is split into stripes by hash code, so objects that can tie always share
+ * a stripe, and ids need only be unique within one; each stripe counts its own. A stripe is an
+ * open-addressed table of weak references. Finding an object that already has an id takes no
+ * lock and allocates nothing; only a miss takes the stripe's lock, to check again and insert.
+ * Entries whose objects have been collected are removed through a {@link ReferenceQueue} on the
+ * next insert into their stripe.
+ */
+final class IdentityUidTable {
+  private final Stripe[] stripes;
+  private final int stripeShift;
+
+  IdentityUidTable() {
+    int processors = Runtime.getRuntime().availableProcessors();
+    int stripeCount = Math.min(Integer.highestOneBit(processors) * 4, 64);
+    stripes = new Stripe[stripeCount];
+    for (int i = 0; i < stripeCount; i++) {
+      stripes[i] = new Stripe();
+    }
+    stripeShift = Integer.numberOfLeadingZeros(stripeCount - 1);
+  }
+
+  /**
+   * Returns the id of {@code object}, assigning one if it has none. {@code hashCode} must be the
+   * same every time for the same object; objects passed with the same hash code never share an id
+   * while both are reachable.
+   */
+  int uid(Object object, int hashCode) {
+    int hash = smear(hashCode);
+    // high bits pick the stripe and low bits the slot, so they stay independent
+    Stripe stripe = stripes[hash >>> stripeShift];
+    int uid = stripe.find(object, hash);
+    return (uid >= 0) ? uid : stripe.insert(object, hash);
+  }
+
+  private static int smear(int hashCode) {
+    return 0x1b873593 * Integer.rotateLeft(hashCode * 0xcc9e2d51, 15);
+  }
+
+  private static final class Entry extends WeakReference<Object> {
+    final int hash;
+    final int uid;
+
+    Entry(Object referent, int hash, int uid, ReferenceQueue<Object> queue) {
+      super(referent, queue);
+      this.hash = hash;
+      this.uid = uid;
+    }
+  }
+
+  private static final class Stripe {
+    private static final int INITIAL_CAPACITY = 8;
+
+    private final ReferenceQueue<Object> queue = new ReferenceQueue<Object>();
+
+    /** Replaced, never resized in place; written only under the lock. */
+    private volatile AtomicReferenceArray<Entry> table =
+        new AtomicReferenceArray<Entry>(INITIAL_CAPACITY);
+
+    // guarded by this
+    private int size;
+    private int nextUid;
+
+    /**
+     * Returns the id of {@code object}, or -1 if it was not found. A miss may be spurious if an
+     * entry is concurrently moved, so misses are checked again under the lock.
+     */
+    int find(Object object, int hash) {
+      AtomicReferenceArray<Entry> table = this.table;
+      int mask = table.length() - 1;
+      for (int i = hash & mask; ; i = (i + 1) & mask) {
+        Entry entry = table.get(i);
+        if (entry == null) {
+          return -1;
+        } else if (entry.get() == object) {
+          return entry.uid;
+        }
+      }
+    }
+
+    synchronized int insert(Object object, int hash) {
+      int uid = find(object, hash);
+      if (uid >= 0) {
+        return uid;
+      }
+      expungeStaleEntries();
+      if (size + 1 > table.length() * 3 / 4) {
+        resize();
+      }
+      // only ids of objects with the same identity hash are ever compared, so wrapping is harmless
+      // unless 2^31 of them are inserted into one stripe; masking keeps ids non-negative
+      uid = nextUid++ & Integer.MAX_VALUE;
+      put(table, new Entry(object, hash, uid, queue));
+      size++;
+      return uid;
+    }
+
+    private static void put(AtomicReferenceArray<Entry> table, Entry entry) {
+      int mask = table.length() - 1;
+      int i = entry.hash & mask;
+      while (table.get(i) != null) {
+        i = (i + 1) & mask;
+      }
+      table.set(i, entry);
+    }
+
+    private void resize() {
+      AtomicReferenceArray<Entry> oldTable = table;
+      AtomicReferenceArray<Entry> newTable =
+          new AtomicReferenceArray<Entry>(oldTable.length() * 2);
+      for (int i = 0; i < oldTable.length(); i++) {
+        Entry entry = oldTable.get(i);
+        if (entry != null) {
+          put(newTable, entry);
+        }
+      }
+      table = newTable;
+    }
+
+    /** Removes the entries of collected objects. Called only under the lock. */
+    private void expungeStaleEntries() {
+      for (Object ref; (ref = queue.poll()) != null; ) {
+        remove((Entry) ref);
+      }
+    }
+
+    /**
+     * Removes {@code entry} and closes the gap by shifting later entries of its probe run back, so
+     * that every remaining entry is still reachable from its home slot.
+     */
+    private void remove(Entry entry) {
+      AtomicReferenceArray<Entry> table = this.table;
+      int mask = table.length() - 1;
+      int gap = entry.hash & mask;
+      while (table.get(gap) != entry) {
+        if (table.get(gap) == null) {
+          return; // already gone
+        }
+        gap = (gap + 1) & mask;
+      }
+      for (int i = (gap + 1) & mask; ; i = (i + 1) & mask) {
+        Entry next = table.get(i);
+        if (next == null) {
+          break;
+        }
+        int home = next.hash & mask;
+        // move next into the gap unless its home slot lies cyclically in (gap, i]
+        boolean homeBetween = (gap <= i) ? (gap < home && home <= i) : (gap < home || home <= i);
+        if (!homeBetween) {
+          table.set(gap, next);
+          gap = i;
+        }
+      }
+      table.set(gap, null);
+      size--;
+    }
+  }
+}
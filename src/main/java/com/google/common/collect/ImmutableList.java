@@ -306,7 +306,9 @@ public abstract class ImmutableList<E> extends ImmutableCollection<E>
       Iterable<? extends E> elements) {
     Comparable<?>[] array = Iterables.toArray(elements, new Comparable<?>[0]);
     checkElementsNotNull((Object[]) array);
-    Arrays.sort(array);
+    if (!NormalizedKeySort.sort(array, NaturalOrdering.INSTANCE)) {
+      Arrays.sort(array);
+    }
     return asImmutableList(array);
   }
 
@@ -331,7 +333,9 @@ public abstract class ImmutableList<E> extends ImmutableCollection<E>
     @SuppressWarnings("unchecked") // all supported methods are covariant
     E[] array = (E[]) Iterables.toArray(elements);
     checkElementsNotNull(array);
-    Arrays.sort(array, comparator);
+    if (!NormalizedKeySort.sort(array, comparator)) {
+      Arrays.sort(array, comparator);
+    }
     return asImmutableList(array);
   }
 
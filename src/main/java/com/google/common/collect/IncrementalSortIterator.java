@@ -0,0 +1,179 @@
+/*
+ * Copyright (C) 2026 The guava_learn Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.common.collect;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.annotations.GwtCompatible;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+
+/**
+ * An iterator over the smallest {@code limit} elements of an array, in ascending order relative to
+ * a comparator, that sorts the array only as far as it has been consumed.
+ *
+ * <p>This is <i>incremental quicksort</i> (Navarro and Paredes): the array is partitioned around a
+ * pivot until the next position holds its final element, and the pivot positions found along the
+ * way are kept on a stack so that later calls resume where the previous one stopped. Retrieving the
+ * first {@code m} elements of an array of length {@code n} takes expected O(n + m log m) time,
+ * rather than the O(n log n) of a full sort, which matters when callers only look at a first page
+ * of results.
+ *
+ * <p>As in introselect, each range carries a budget of about 2 log2(n) unbalanced partitions; a
+ * range that exhausts it is sorted outright. Adversarial input therefore cannot make the iteration
+ * take more than O(n log n) time in total.
+ *
+ * <p>The array is owned by the iterator and permuted in place.
+ */
+@GwtCompatible
+final class IncrementalSortIterator<T> implements Iterator<T> {
+  private final T[] array;
+  private final Comparator<? super T> comparator;
+  private final int limit;
+
+  /** The position of the next element to return. Everything before it is in its final place. */
+  private int next;
+
+  /*
+   * Positions of elements already known to be in their final places, in decreasing order from the
+   * bottom of the stack to the top. The bottom entry is the sentinel array.length. Every element in
+   * [next, stack[top]) is less than or equal to array[stack[top]], so once next reaches the top of
+   * the stack, that element can be returned without further work.
+   */
+  private int[] stack;
+  private int stackSize;
+
+  /*
+   * budgets[i] is the number of unbalanced partitions still allowed for the unsorted range ending
+   * at stack[i], before that range is sorted outright.
+   */
+  private int[] budgets;
+
+  IncrementalSortIterator(T[] array, Comparator<? super T> comparator, int limit) {
+    checkArgument(limit >= 0, "limit must be nonnegative, was %s", limit);
+    this.array = checkNotNull(array);
+    this.comparator = checkNotNull(comparator);
+    this.limit = Math.min(limit, array.length);
+    this.stack = new int[8];
+    this.budgets = new int[8];
+    this.stack[0] = array.length;
+    this.budgets[0] = 2 * (Integer.SIZE - Integer.numberOfLeadingZeros(array.length));
+    this.stackSize = 1;
+  }
+
+  /** Returns the number of elements remaining. */
+  int remaining() {
+    return limit - next;
+  }
+
+  @Override
+  public boolean hasNext() {
+    return next < limit;
+  }
+
+  @Override
+  public T next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    while (true) {
+      int top = stack[stackSize - 1];
+      if (top == next) {
+        stackSize--;
+        return array[next++];
+      }
+      // array[next, top) is not yet sorted; partition it and remember where the pivots landed.
+      int budget = budgets[stackSize - 1];
+      if (budget == 0) {
+        sortAndPush(next, top);
+      } else {
+        partitionAndPush(next, top - 1, (next + top) >>> 1, budget);
+      }
+    }
+  }
+
+  private void push(int index, int budget) {
+    if (stackSize == stack.length) {
+      stack = Arrays.copyOf(stack, stack.length * 2);
+      budgets = Arrays.copyOf(budgets, budgets.length * 2);
+    }
+    stack[stackSize] = index;
+    budgets[stackSize++] = budget;
+  }
+
+  /** Sorts array[from, to) and pushes every position in it, since all are now final. */
+  private void sortAndPush(int from, int to) {
+    Arrays.sort(array, from, to, comparator);
+    for (int j = to - 1; j >= from; j--) {
+      push(j, 0);
+    }
+  }
+
+  /**
+   * Three-way partitions array[left, right] around the element at pivotIndex, so that the elements
+   * less than the pivot come first, then those equivalent to it, then those greater. Every
+   * equivalent element is now in its final place, so all of their positions are pushed. Each
+   * position is pushed at most once over the life of the iterator, and runs of equal elements cost
+   * a single pass rather than one pass each.
+   *
+   * <p>If either of the two ranges left to sort holds more than three quarters of the elements, the
+   * partition counts against the budget of both.
+   */
+  private void partitionAndPush(int left, int right, int pivotIndex, int budget) {
+    T pivotValue = array[pivotIndex];
+    int lt = left;
+    int i = left;
+    int gt = right;
+    while (i <= gt) {
+      int result = comparator.compare(array[i], pivotValue);
+      if (result < 0) {
+        swap(lt++, i++);
+      } else if (result > 0) {
+        swap(i, gt--);
+      } else {
+        i++;
+      }
+    }
+    int size = right - left + 1;
+    int largest = Math.max(lt - left, right - gt);
+    if (largest > size - (size >>> 2)) {
+      budget--;
+      // the range above the pivots still ends at the current top of the stack
+      budgets[stackSize - 1] = budget;
+    }
+    for (int j = gt; j >= lt; j--) {
+      push(j, budget);
+    }
+  }
+
+  private void swap(int i, int j) {
+    T tmp = array[i];
+    array[i] = array[j];
+    array[j] = tmp;
+  }
+
+  /** Returns an ordered, sized spliterator over the elements this iterator has yet to return. */
+  Spliterator<T> spliterator() {
+    return Spliterators.spliterator(
+        this, remaining(), Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED);
+  }
+}
@@ -0,0 +1,283 @@
+/*
+ * Copyright (C) 2026 The guava_learn Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.common.collect;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.annotations.GwtCompatible;
+import com.google.common.math.IntMath;
+import java.math.RoundingMode;
+import java.util.Arrays;
+
+/**
+ * A {@link TopKSelector} specialized for {@code int} values. It selects the lowest or greatest
+ * {@code k} values offered to it, using their natural order, without boxing and without calling a
+ * {@code Comparator}.
+ *
+ * <p>This uses the same 2k-buffer quickselect as {@link TopKSelector}, offering expected O(n + k
+ * log k) performance (worst case O(n log k)) for n calls to {@link #offer} and a call to {@link
+ * #topK}, with O(k) memory. No allocation is performed by {@link #offer}.
+ */
+@GwtCompatible
+final class IntTopKSelector {
+
+  /**
+   * Returns an {@code IntTopKSelector} that collects the lowest {@code k} values added to it, and
+   * returns them via {@link #topK} in ascending order.
+   *
+   * @throws IllegalArgumentException if {@code k < 0}
+   */
+  public static IntTopKSelector least(int k) {
+    return new IntTopKSelector(k, false);
+  }
+
+  /**
+   * Returns an {@code IntTopKSelector} that collects the greatest {@code k} values added to it, and
+   * returns them via {@link #topK} in descending order.
+   *
+   * @throws IllegalArgumentException if {@code k < 0}
+   */
+  public static IntTopKSelector greatest(int k) {
+    return new IntTopKSelector(k, true);
+  }
+
+  private final int k;
+
+  /*
+   * For greatest(k), values are stored bitwise-complemented. ~x reverses the order of ints without
+   * overflowing, so the selection itself only ever has to find the lowest k values.
+   */
+  private final boolean reversed;
+
+  /*
+   * We are currently considering the values in buffer in the range [0, bufferSize) as candidates
+   * for the top k values. Whenever the buffer is filled, we quickselect the top k values to the
+   * range [0, k) and ignore the remaining values.
+   */
+  private final int[] buffer;
+  private int bufferSize;
+
+  /**
+   * The largest of the lowest k (encoded) values we've seen so far. If bufferSize ≥ k, then we can
+   * ignore any values greater than this value.
+   */
+  private int threshold;
+
+  private IntTopKSelector(int k, boolean reversed) {
+    checkArgument(k >= 0, "k must be nonnegative, was %s", k);
+    this.k = k;
+    this.reversed = reversed;
+    this.buffer = new int[k * 2];
+    this.bufferSize = 0;
+  }
+
+  private int encode(int value) {
+    return reversed ? ~value : value;
+  }
+
+  /**
+   * Adds {@code value} as a candidate for the top {@code k} values. This operation takes amortized
+   * O(1) time.
+   */
+  public void offer(int value) {
+    offerEncoded(encode(value));
+  }
+
+  private void offerEncoded(int elem) {
+    if (k == 0) {
+      return;
+    } else if (bufferSize == 0) {
+      buffer[0] = elem;
+      threshold = elem;
+      bufferSize = 1;
+    } else if (bufferSize < k) {
+      buffer[bufferSize++] = elem;
+      if (elem > threshold) {
+        threshold = elem;
+      }
+    } else if (elem < threshold) {
+      // Otherwise, we can ignore elem; we've seen k better values.
+      buffer[bufferSize++] = elem;
+      if (bufferSize == 2 * k) {
+        trim();
+      }
+    }
+  }
+
+  /**
+   * Quickselects the top k values from the 2k values in the buffer. O(k) expected time, O(k log k)
+   * worst case.
+   */
+  private void trim() {
+    int left = 0;
+    int right = 2 * k - 1;
+
+    int minThresholdPosition = 0;
+    // The leftmost position at which the greatest of the k lower values
+    // -- the new value of threshold -- might be found.
+
+    int iterations = 0;
+    int maxIterations = IntMath.log2(right - left, RoundingMode.CEILING) * 3;
+    while (left < right) {
+      int pivotIndex = (left + right + 1) >>> 1;
+
+      int pivotNewIndex = partition(left, right, pivotIndex);
+
+      if (pivotNewIndex > k) {
+        right = pivotNewIndex - 1;
+      } else if (pivotNewIndex < k) {
+        left = Math.max(pivotNewIndex, left + 1);
+        minThresholdPosition = pivotNewIndex;
+      } else {
+        break;
+      }
+      iterations++;
+      if (iterations >= maxIterations) {
+        // We've already taken O(k log k), let's make sure we don't take longer than O(k log k).
+        Arrays.sort(buffer, left, right + 1);
+        break;
+      }
+    }
+    bufferSize = k;
+
+    threshold = buffer[minThresholdPosition];
+    for (int i = minThresholdPosition + 1; i < k; i++) {
+      if (buffer[i] > threshold) {
+        threshold = buffer[i];
+      }
+    }
+  }
+
+  /**
+   * Partitions the contents of buffer in the range [left, right] around the pivot value previously
+   * stored in buffer[pivotIndex]. Returns the new index of the pivot value, pivotNewIndex, so that
+   * everything in [left, pivotNewIndex] is ≤ pivotValue and everything in (pivotNewIndex, right] is
+   * greater than pivotValue.
+   */
+  private int partition(int left, int right, int pivotIndex) {
+    int pivotValue = buffer[pivotIndex];
+    buffer[pivotIndex] = buffer[right];
+
+    int pivotNewIndex = left;
+    for (int i = left; i < right; i++) {
+      if (buffer[i] < pivotValue) {
+        swap(pivotNewIndex, i);
+        pivotNewIndex++;
+      }
+    }
+    buffer[right] = buffer[pivotNewIndex];
+    buffer[pivotNewIndex] = pivotValue;
+    return pivotNewIndex;
+  }
+
+  private void swap(int i, int j) {
+    int tmp = buffer[i];
+    buffer[i] = buffer[j];
+    buffer[j] = tmp;
+  }
+
+  IntTopKSelector combine(IntTopKSelector other) {
+    checkArgument(
+        reversed == other.reversed, "cannot combine a least() selector with a greatest() selector");
+    for (int i = 0; i < other.bufferSize; i++) {
+      this.offerEncoded(other.buffer[i]);
+    }
+    return this;
+  }
+
+  /**
+   * Adds each of {@code values} as a candidate for the top {@code k} values. This operation takes
+   * amortized linear time in the length of {@code values}.
+   */
+  public void offerAll(int... values) {
+    offerAll(values, 0, values.length);
+  }
+
+  /**
+   * Adds each of {@code values[fromIndex]} through {@code values[toIndex - 1]} as a candidate for
+   * the top {@code k} values. This operation takes amortized linear time in {@code toIndex -
+   * fromIndex}.
+   *
+   * @throws IndexOutOfBoundsException if the range is not valid for {@code values}
+   */
+  public void offerAll(int[] values, int fromIndex, int toIndex) {
+    checkNotNull(values);
+    if (fromIndex < 0 || toIndex > values.length || fromIndex > toIndex) {
+      throw new IndexOutOfBoundsException(
+          "fromIndex: " + fromIndex + ", toIndex: " + toIndex + ", length: " + values.length);
+    }
+    int i = fromIndex;
+    // offer values one at a time until there is a threshold to filter against
+    for (; i < toIndex && bufferSize < k; i++) {
+      offerEncoded(encode(values[i]));
+    }
+    if (k > 0) {
+      filter(values, i, toIndex);
+    }
+  }
+
+  /**
+   * Offers values[from, to) once the buffer holds at least k values. Each (encoded) value is
+   * written to the next free buffer slot unconditionally, and the slot is kept only if the value
+   * beats the threshold. This keeps the comparison out of the branch predictor, so the loop runs at
+   * the same rate however selective the threshold is, and lets it run over locals rather than
+   * fields. The only branch is the rarely taken one that trims a full buffer.
+   */
+  private void filter(int[] values, int from, int to) {
+    int[] buffer = this.buffer;
+    int mask = reversed ? -1 : 0; // x ^ -1 == ~x
+    int limit = 2 * k;
+    int size = bufferSize;
+    int threshold = this.threshold;
+    for (int i = from; i < to; i++) {
+      int elem = values[i] ^ mask;
+      buffer[size] = elem;
+      size += (elem < threshold) ? 1 : 0;
+      if (size == limit) {
+        bufferSize = size;
+        trim();
+        size = bufferSize;
+        threshold = this.threshold;
+      }
+    }
+    bufferSize = size;
+  }
+
+  /**
+   * Returns the top {@code k} values offered to this {@code IntTopKSelector}, or all values if
+   * fewer than {@code k} have been offered, in the order specified by the factory used to create
+   * this {@code IntTopKSelector}.
+   *
+   * <p>The returned array is a fresh copy and will not be affected by further changes to this
+   * {@code IntTopKSelector}. This method returns in O(k log k) time.
+   */
+  public int[] topK() {
+    Arrays.sort(buffer, 0, bufferSize);
+    if (bufferSize > k) {
+      bufferSize = k;
+      threshold = buffer[k - 1];
+    }
+    int[] result = Arrays.copyOf(buffer, bufferSize);
+    if (reversed) {
+      for (int i = 0; i < result.length; i++) {
+        result[i] = ~result[i];
+      }
+    }
+    return result;
+  }
+}
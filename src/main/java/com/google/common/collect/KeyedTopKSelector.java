@@ -0,0 +1,340 @@
+/*
+ * Copyright (C) 2026 The guava_learn Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.common.collect;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.annotations.GwtCompatible;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import javax.annotation.Nullable;
+
+/**
+ * Selects the least {@code k} of a stream of elements by keys that the caller computes once per
+ * element, using O(k) memory. Unlike {@link TopKSelector}, the selection is <i>stable</i>: of two
+ * elements with equivalent keys, the one offered first is preferred, and comes first in {@link
+ * #topK}.
+ *
+ * <p>As in {@link TopKSelector}, up to 2k candidates are buffered, and whenever the buffer fills
+ * the least k of them are quickselected to the front and the rest are dropped. Candidates are kept
+ * in parallel arrays of keys, elements and arrival numbers, with ties between keys broken by
+ * arrival, so no wrapper object is allocated per element. A candidate that does not beat the
+ * current threshold is rejected after a single key comparison.
+ *
+ * <p>Subclasses hold the keys, either as objects with a comparator ({@link ByObject}) or as {@code
+ * long}s in signed order ({@link ByLong}), and offer each key and element together.
+ */
+@GwtCompatible
+abstract class KeyedTopKSelector<E> implements PermutationSort.IndexComparator {
+  /** The largest array length that can be allocated on all common JVMs. */
+  private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+  private static final int INITIAL_CAPACITY = 16;
+
+  /** Returns a selector for the {@code k} elements with the least keys under {@code comparator}. */
+  static <K, E> ByObject<K, E> least(int k, Comparator<? super K> comparator) {
+    return new ByObject<K, E>(k, comparator);
+  }
+
+  /** Returns a selector for the {@code k} elements with the least {@code long} keys. */
+  static <E> ByLong<E> leastByLong(int k) {
+    return new ByLong<E>(k);
+  }
+
+  final int k;
+
+  /** The buffer length at which it is trimmed back to k candidates: 2k, if that fits. */
+  private final int maxCapacity;
+
+  /*
+   * The candidates are in slots [0, size). Buffers start small and grow up to maxCapacity, so that
+   * a large k costs memory only once that many elements have been offered.
+   */
+  private Object[] elements;
+  private long[] arrivals;
+  private long nextArrival;
+  int size;
+
+  /**
+   * The slot of the greatest of the least k candidates. Once there are k candidates, an element is
+   * worth keeping only if its key is less than this one's; an equivalent key arrived later, and so
+   * loses the tie.
+   */
+  int threshold;
+
+  KeyedTopKSelector(int k) {
+    checkArgument(k >= 0, "k must be nonnegative, was %s", k);
+    this.k = k;
+    this.maxCapacity = (int) Math.min(2L * k, MAX_CAPACITY);
+    int capacity = Math.min(maxCapacity, INITIAL_CAPACITY);
+    this.elements = new Object[capacity];
+    this.arrivals = new long[capacity];
+  }
+
+  /**
+   * Returns true if there are already k candidates, so that a new one is kept only if its key is
+   * less than the threshold's.
+   */
+  final boolean hasThreshold() {
+    return k > 0 && size >= k;
+  }
+
+  final int capacity() {
+    return elements.length;
+  }
+
+  /** Returns the slot for a new candidate, growing the buffers if necessary. */
+  final int reserve() {
+    if (size == elements.length) {
+      int capacity = (int) Math.min(2L * size, maxCapacity);
+      elements = Arrays.copyOf(elements, capacity);
+      arrivals = Arrays.copyOf(arrivals, capacity);
+      resizeKeys(capacity);
+    }
+    return size;
+  }
+
+  /** Completes adding a candidate whose key the subclass has stored in slot {@link #reserve}. */
+  final void add(@Nullable E element) {
+    int slot = size++;
+    elements[slot] = element;
+    arrivals[slot] = nextArrival++;
+    if (size <= k) {
+      if (slot == 0 || compare(slot, threshold) > 0) {
+        threshold = slot;
+      }
+    } else if (size == maxCapacity) {
+      trim();
+    }
+  }
+
+  abstract int compareKeys(int left, int right);
+
+  abstract void swapKeys(int i, int j);
+
+  abstract void resizeKeys(int capacity);
+
+  /** Releases the keys in slots [from, to), which are no longer candidates. */
+  abstract void clearKeys(int from, int to);
+
+  /** Compares two candidates by key, and then by arrival. No two candidates compare as equal. */
+  @Override
+  public final int compare(int left, int right) {
+    int result = compareKeys(left, right);
+    return (result != 0) ? result : Long.compare(arrivals[left], arrivals[right]);
+  }
+
+  /**
+   * Quickselects the least k candidates to slots [0, k) and drops the rest. Expected O(size) time;
+   * after 3 log2(size) partitions without finishing, the remaining range is heapsorted instead, so
+   * the worst case is O(size log size).
+   */
+  private void trim() {
+    int left = 0;
+    int right = size - 1;
+    int iterations = 0;
+    int maxIterations = 3 * (Integer.SIZE - Integer.numberOfLeadingZeros(size));
+    while (left < right) {
+      int pivot = partition(left, right, (left + right + 1) >>> 1);
+      if (pivot > k) {
+        right = pivot - 1;
+      } else if (pivot < k - 1) {
+        left = pivot + 1;
+      } else {
+        break; // everything before slot k is now less than everything after it
+      }
+      if (++iterations >= maxIterations) {
+        heapSort(left, right + 1);
+        break;
+      }
+    }
+    Arrays.fill(elements, k, size, null);
+    clearKeys(k, size);
+    size = k;
+    threshold = 0;
+    for (int i = 1; i < k; i++) {
+      if (compare(i, threshold) > 0) {
+        threshold = i;
+      }
+    }
+  }
+
+  /**
+   * Partitions slots [left, right] around the candidate in slot pivotIndex, and returns the slot
+   * where it ends up. Since no two candidates are equal, everything before that slot is less than
+   * the pivot and everything after it is greater.
+   */
+  private int partition(int left, int right, int pivotIndex) {
+    swap(pivotIndex, right);
+    int pivotNewIndex = left;
+    for (int i = left; i < right; i++) {
+      if (compare(i, right) < 0) {
+        swap(pivotNewIndex++, i);
+      }
+    }
+    swap(pivotNewIndex, right);
+    return pivotNewIndex;
+  }
+
+  private void heapSort(int from, int to) {
+    int n = to - from;
+    for (int i = n / 2 - 1; i >= 0; i--) {
+      siftDown(from, i, n);
+    }
+    for (int end = n - 1; end > 0; end--) {
+      swap(from, from + end);
+      siftDown(from, 0, end);
+    }
+  }
+
+  /** Restores the max-heap property of the heap of size n at slots from, from + 1, ... */
+  private void siftDown(int from, int i, int n) {
+    while (true) {
+      int child = 2 * i + 1;
+      if (child >= n) {
+        return;
+      }
+      if (child + 1 < n && compare(from + child + 1, from + child) > 0) {
+        child++;
+      }
+      if (compare(from + i, from + child) >= 0) {
+        return;
+      }
+      swap(from + i, from + child);
+      i = child;
+    }
+  }
+
+  private void swap(int i, int j) {
+    Object element = elements[i];
+    elements[i] = elements[j];
+    elements[j] = element;
+    long arrival = arrivals[i];
+    arrivals[i] = arrivals[j];
+    arrivals[j] = arrival;
+    swapKeys(i, j);
+  }
+
+  /**
+   * Returns the elements with the least {@code k} keys, or all elements if fewer than {@code k}
+   * have been offered, in ascending order of key and then of arrival. This takes O(k log k) time.
+   *
+   * <p>The returned list is unmodifiable, and will not be affected by further offers.
+   */
+  @SuppressWarnings("unchecked") // only Es are ever stored
+  final List<E> topK() {
+    if (size > k) {
+      trim();
+    }
+    int[] order = PermutationSort.sortedPermutation(size, this);
+    Object[] result = new Object[size];
+    for (int i = 0; i < size; i++) {
+      result[i] = elements[order[i]];
+    }
+    return Collections.unmodifiableList(Arrays.asList((E[]) result));
+  }
+
+  /** A selector by object keys, compared with a comparator. */
+  static final class ByObject<K, E> extends KeyedTopKSelector<E> {
+    private final Comparator<? super K> comparator;
+    private Object[] keys;
+
+    ByObject(int k, Comparator<? super K> comparator) {
+      super(k);
+      this.comparator = checkNotNull(comparator);
+      this.keys = new Object[capacity()];
+    }
+
+    /** Offers {@code element}, whose key is {@code key}. O(1) amortized time. */
+    void offer(@Nullable K key, @Nullable E element) {
+      if (hasThreshold() ? comparator.compare(key, key(threshold)) < 0 : k > 0) {
+        int slot = reserve(); // may replace keys
+        keys[slot] = key;
+        add(element);
+      }
+    }
+
+    @SuppressWarnings("unchecked") // only Ks are ever stored
+    private K key(int slot) {
+      return (K) keys[slot];
+    }
+
+    @Override
+    int compareKeys(int left, int right) {
+      return comparator.compare(key(left), key(right));
+    }
+
+    @Override
+    void swapKeys(int i, int j) {
+      Object key = keys[i];
+      keys[i] = keys[j];
+      keys[j] = key;
+    }
+
+    @Override
+    void resizeKeys(int capacity) {
+      keys = Arrays.copyOf(keys, capacity);
+    }
+
+    @Override
+    void clearKeys(int from, int to) {
+      Arrays.fill(keys, from, to, null);
+    }
+  }
+
+  /** A selector by {@code long} keys, in signed order. */
+  static final class ByLong<E> extends KeyedTopKSelector<E> {
+    private long[] keys;
+
+    ByLong(int k) {
+      super(k);
+      this.keys = new long[capacity()];
+    }
+
+    /** Offers {@code element}, whose key is {@code key}. O(1) amortized time. */
+    void offer(long key, @Nullable E element) {
+      if (hasThreshold() ? key < keys[threshold] : k > 0) {
+        int slot = reserve(); // may replace keys
+        keys[slot] = key;
+        add(element);
+      }
+    }
+
+    @Override
+    int compareKeys(int left, int right) {
+      return Long.compare(keys[left], keys[right]);
+    }
+
+    @Override
+    void swapKeys(int i, int j) {
+      long key = keys[i];
+      keys[i] = keys[j];
+      keys[j] = key;
+    }
+
+    @Override
+    void resizeKeys(int capacity) {
+      keys = Arrays.copyOf(keys, capacity);
+    }
+
+    @Override
+    void clearKeys(int from, int to) {}
+  }
+}
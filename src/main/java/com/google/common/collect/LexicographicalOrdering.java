@@ -20,6 +20,8 @@ import com.google.common.annotations.GwtCompatible;
 import java.io.Serializable;
 import java.util.Comparator;
 import java.util.Iterator;
+import java.util.List;
+import java.util.RandomAccess;
 import javax.annotation.Nullable;
 
 /**
@@ -36,6 +38,13 @@ final class LexicographicalOrdering<T> extends Ordering<Iterable<T>> implements
 
   @Override
   public int compare(Iterable<T> leftIterable, Iterable<T> rightIterable) {
+    if (leftIterable instanceof RandomAccess
+        && rightIterable instanceof RandomAccess
+        && leftIterable instanceof List
+        && rightIterable instanceof List) {
+      // includes every ImmutableList; indexing allocates no iterators
+      return compareRandomAccess((List<T>) leftIterable, (List<T>) rightIterable);
+    }
     Iterator<T> left = leftIterable.iterator();
     Iterator<T> right = rightIterable.iterator();
     while (left.hasNext()) {
@@ -53,6 +62,21 @@ final class LexicographicalOrdering<T> extends Ordering<Iterable<T>> implements
     return 0;
   }
 
+  private int compareRandomAccess(List<T> left, List<T> right) {
+    int leftSize = left.size();
+    int rightSize = right.size();
+    for (int i = 0, size = Math.min(leftSize, rightSize); i < size; i++) {
+      int result = elementOrder.compare(left.get(i), right.get(i));
+      if (result != 0) {
+        return result;
+      }
+    }
+    // the shorter list is the lesser
+    return (leftSize < rightSize)
+        ? RIGHT_IS_GREATER
+        : (leftSize > rightSize) ? LEFT_IS_GREATER : 0;
+  }
+
   @Override
   public boolean equals(@Nullable Object object) {
     if (object == this) {
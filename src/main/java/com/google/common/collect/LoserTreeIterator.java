@@ -0,0 +1,131 @@
+/*
+ * Copyright (C) 2026 The guava_learn Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.common.collect;
+
+import com.google.common.annotations.GwtCompatible;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * An iterator over the merge of several iterators, each already sorted by a comparator, driven by
+ * a <i>loser tree</i>.
+ *
+ * <p>The tree is a complete binary tree with one leaf per source. Each internal node remembers the
+ * loser of the match played there, and the overall winner is kept apart at the root. After the
+ * winner's source advances, only the matches on the path from its leaf to the root are replayed,
+ * each against the stored loser, so every element costs about log2(k) comparisons for k sources,
+ * half as many as sifting a binary heap. Ties go to the source that comes first, so the merge is
+ * <i>stable</i>: equal elements come out in source order, and elements of one source in their own
+ * order.
+ *
+ * <p>Sources are only advanced as elements are consumed. Null elements are supported if the
+ * comparator supports them. {@link #remove} is not supported.
+ */
+@GwtCompatible
+final class LoserTreeIterator<E> implements Iterator<E> {
+  private final Iterator<? extends E>[] sources;
+  private final Comparator<? super E> comparator;
+
+  /** The current head of each source, valid only if the source is not exhausted. */
+  private final Object[] heads;
+
+  private final boolean[] exhausted;
+
+  /** tree[0] is the source of the overall winner; tree[1, k) are the losers of internal nodes. */
+  private final int[] tree;
+
+  @SuppressWarnings("unchecked") // generic array creation
+  LoserTreeIterator(
+      List<? extends Iterator<? extends E>> sources, Comparator<? super E> comparator) {
+    int k = sources.size();
+    this.sources = sources.toArray(new Iterator[k]);
+    this.comparator = comparator;
+    this.heads = new Object[k];
+    this.exhausted = new boolean[k];
+    this.tree = new int[Math.max(k, 1)];
+    for (int i = 0; i < k; i++) {
+      advance(i);
+    }
+    if (k == 0) {
+      return;
+    }
+    // play every match bottom-up; leaf i sits at position k + i of the conceptual tree
+    int[] winners = new int[2 * k];
+    for (int i = 0; i < k; i++) {
+      winners[k + i] = i;
+    }
+    for (int node = k - 1; node >= 1; node--) {
+      int left = winners[2 * node];
+      int right = winners[2 * node + 1];
+      if (beats(left, right)) {
+        winners[node] = left;
+        tree[node] = right;
+      } else {
+        winners[node] = right;
+        tree[node] = left;
+      }
+    }
+    tree[0] = (k == 1) ? 0 : winners[1];
+  }
+
+  private void advance(int source) {
+    Iterator<? extends E> iterator = sources[source];
+    if (iterator.hasNext()) {
+      heads[source] = iterator.next();
+    } else {
+      heads[source] = null;
+      exhausted[source] = true;
+    }
+  }
+
+  /** Returns whether the head of source a comes before the head of source b. */
+  @SuppressWarnings("unchecked") // only Es are ever stored
+  private boolean beats(int a, int b) {
+    if (exhausted[a] || exhausted[b]) {
+      return exhausted[b] && (!exhausted[a] || a < b);
+    }
+    int result = comparator.compare((E) heads[a], (E) heads[b]);
+    return result < 0 || (result == 0 && a < b);
+  }
+
+  @Override
+  public boolean hasNext() {
+    return sources.length > 0 && !exhausted[tree[0]];
+  }
+
+  @Override
+  @SuppressWarnings("unchecked") // only Es are ever stored
+  public E next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    int winner = tree[0];
+    E result = (E) heads[winner];
+    advance(winner);
+    for (int node = (sources.length + winner) >>> 1; node >= 1; node >>>= 1) {
+      if (beats(tree[node], winner)) {
+        int loser = winner;
+        winner = tree[node];
+        tree[node] = loser;
+      }
+    }
+    tree[0] = winner;
+    return result;
+  }
+}
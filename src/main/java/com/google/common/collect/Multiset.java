@@ -213,7 +213,7 @@ public interface Multiset<E> extends Collection<E> {
     boolean contains(@Nullable Object element);
     
     @Override
-    boolean conatinsAll(Collection<?> elements);
+    boolean containsAll(Collection<?> elements);
     
     @CanIgnoreReturnValue
     @Override
@@ -16,9 +16,14 @@
 package com.google.common.collect;
 
 import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.collect.CollectPreconditions.checkNonnegative;
 
+import java.io.Serializable;
+import java.util.Objects;
 import java.util.stream.Collector;
 
+import javax.annotation.Nullable;
+
 import com.google.common.annotations.GwtCompatible;
 
 /**
@@ -70,7 +75,82 @@ public final class Multisets {
                     return ms1;
                 });
     }
-    
-    
+
+    /**
+     * Returns an immutable multiset entry with the specified element and
+     * count. The entry will be serializable if {@code e} is.
+     *
+     * @param e
+     *            the element to be associated with the returned entry
+     * @param n
+     *            the count to be associated with the returned entry
+     * @throws IllegalArgumentException
+     *             if {@code n} is negative
+     */
+    public static <E> Multiset.Entry<E> immutableEntry(@Nullable E e, int n) {
+        return new ImmutableEntry<E>(e, n);
+    }
+
+    static class ImmutableEntry<E> implements Multiset.Entry<E>, Serializable {
+        @Nullable
+        private final E element;
+        private final int count;
+
+        ImmutableEntry(@Nullable E element, int count) {
+            this.element = element;
+            this.count = count;
+            checkNonnegative(count, "count");
+        }
+
+        @Override
+        @Nullable
+        public final E getElement() {
+            return element;
+        }
+
+        @Override
+        public final int getCount() {
+            return count;
+        }
+
+        /**
+         * Indicates whether an object equals this entry, following the
+         * behavior specified in {@link Multiset.Entry#equals}.
+         */
+        @Override
+        public boolean equals(@Nullable Object object) {
+            if (object instanceof Multiset.Entry) {
+                Multiset.Entry<?> that = (Multiset.Entry<?>) object;
+                return this.getCount() == that.getCount()
+                        && Objects.equals(this.getElement(), that.getElement());
+            }
+            return false;
+        }
+
+        /**
+         * Return this entry's hash code, following the behavior specified in
+         * {@link Multiset.Entry#hashCode}.
+         */
+        @Override
+        public int hashCode() {
+            E e = getElement();
+            return ((e == null) ? 0 : e.hashCode()) ^ getCount();
+        }
+
+        /**
+         * Returns a string representation of this multiset entry. The string
+         * representation consists of the associated element if the associated
+         * count is one, and otherwise the associated element followed by the
+         * characters " x " (space, x and space) followed by the count.
+         */
+        @Override
+        public String toString() {
+            String text = String.valueOf(getElement());
+            int n = getCount();
+            return (n == 1) ? text : (text + " x " + n);
+        }
+
+        private static final long serialVersionUID = 0;
+    }
 
 }
@@ -0,0 +1,345 @@
+/*
+ * Copyright (C) 2026 The guava_learn Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.common.collect;
+
+import com.google.common.annotations.GwtCompatible;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import javax.annotation.Nullable;
+
+/**
+ * A stable sort for orderings that can describe each element by a <i>normalized key</i>: a 64-bit
+ * value whose unsigned order agrees with the ordering, so that {@code key(a) < key(b)} implies
+ * {@code a < b}.
+ *
+ * <p>Such keys are supported for the natural ordering of {@code Integer}, {@code Long} and {@code
+ * String} values, and for reversals, lexicographical orderings and compounds of supported
+ * orderings, with an outermost {@code nullsFirst()} or {@code nullsLast()}. The keys are sorted
+ * with an LSD radix sort, one pass per byte in which they differ, which takes O(n) time. For
+ * {@code Integer} and {@code Long} the key determines the order completely; otherwise it is a
+ * prefix, such as the first four characters of a string, and each run of equal keys is then sorted
+ * with the ordering itself.
+ */
+@GwtCompatible
+final class NormalizedKeySort {
+  private NormalizedKeySort() {}
+
+  /** Below this many elements, a comparison sort is faster than computing keys. */
+  static final int THRESHOLD = 256;
+
+  /**
+   * If {@code comparator} supports normalized keys for every element of {@code array}, and the
+   * array is large enough for them to pay off, stably sorts the array by {@code comparator} and
+   * returns true. Otherwise leaves the array untouched and returns false.
+   */
+  static <E> boolean sort(E[] array, Comparator<? super E> comparator) {
+    if (array.length < THRESHOLD) {
+      return false;
+    }
+    // unwrap reversals and one level of null handling around the ordering proper
+    Comparator<?> ordering = comparator;
+    boolean reversed = false;
+    int nulls = 0; // or RIGHT_IS_GREATER if nulls go first, LEFT_IS_GREATER if they go last
+    while (true) {
+      if (ordering instanceof CompiledOrdering) {
+        ordering = ((CompiledOrdering<?>) ordering).source;
+      } else if (ordering instanceof ReverseOrdering) {
+        ordering = ((ReverseOrdering<?>) ordering).forwardOrder;
+        reversed = !reversed;
+      } else if (ordering instanceof NullsFirstOrdering && nulls == 0) {
+        ordering = ((NullsFirstOrdering<?>) ordering).ordering;
+        nulls = reversed ? Ordering.LEFT_IS_GREATER : Ordering.RIGHT_IS_GREATER;
+      } else if (ordering instanceof NullsLastOrdering && nulls == 0) {
+        ordering = ((NullsLastOrdering<?>) ordering).ordering;
+        nulls = reversed ? Ordering.RIGHT_IS_GREATER : Ordering.LEFT_IS_GREATER;
+      } else {
+        break;
+      }
+    }
+
+    int nullCount = 0;
+    for (E element : array) {
+      if (element == null) {
+        nullCount++;
+      }
+    }
+    if (nullCount > 0 && nulls == 0) {
+      return false;
+    }
+    Encoder encoder = encoderFor(ordering);
+    if (encoder == null) {
+      return false;
+    }
+    if (reversed) {
+      encoder = new ReversedEncoder(encoder);
+    }
+
+    int n = array.length - nullCount;
+    Object[] values = new Object[n];
+    long[] keys = new long[n];
+    for (int i = 0, j = 0; i < array.length; i++) {
+      Object element = array[i];
+      if (element != null) {
+        if (!encoder.supports(element)) {
+          return false;
+        }
+        keys[j] = encoder.encode(element);
+        values[j++] = element;
+      }
+    }
+
+    radixSort(keys, values);
+    if (!encoder.exact()) {
+      @SuppressWarnings("unchecked") // only Es are ever stored
+      E[] sorted = (E[]) values;
+      for (int start = 0; start < n; ) {
+        int end = start + 1;
+        while (end < n && keys[end] == keys[start]) {
+          end++;
+        }
+        if (end - start > 1) {
+          Arrays.sort(sorted, start, end, comparator);
+        }
+        start = end;
+      }
+    }
+
+    int offset = (nulls == Ordering.RIGHT_IS_GREATER) ? nullCount : 0;
+    Arrays.fill(array, null);
+    System.arraycopy(values, 0, array, offset, n);
+    return true;
+  }
+
+  /**
+   * Stably sorts keys as unsigned values, permuting values alongside them, with one counting pass
+   * per byte position in which the keys are not all equal.
+   */
+  private static void radixSort(long[] keys, Object[] values) {
+    int n = keys.length;
+    if (n == 0) {
+      return;
+    }
+    int[][] counts = new int[8][257];
+    for (long key : keys) {
+      for (int b = 0; b < 8; b++) {
+        counts[b][(int) (key >>> (8 * b)) & 0xFF]++;
+      }
+    }
+    long[] keysFrom = keys;
+    long[] keysTo = new long[n];
+    Object[] valuesFrom = values;
+    Object[] valuesTo = new Object[n];
+    for (int b = 0; b < 8; b++) {
+      int[] count = counts[b];
+      int shift = 8 * b;
+      if (count[(int) (keys[0] >>> shift) & 0xFF] == n) {
+        continue; // every key has the same byte here
+      }
+      // turn the counts into starting positions
+      int position = 0;
+      for (int digit = 0; digit < 256; digit++) {
+        int c = count[digit];
+        count[digit] = position;
+        position += c;
+      }
+      for (int i = 0; i < n; i++) {
+        long key = keysFrom[i];
+        int target = count[(int) (key >>> shift) & 0xFF]++;
+        keysTo[target] = key;
+        valuesTo[target] = valuesFrom[i];
+      }
+      long[] tmpKeys = keysFrom;
+      keysFrom = keysTo;
+      keysTo = tmpKeys;
+      Object[] tmpValues = valuesFrom;
+      valuesFrom = valuesTo;
+      valuesTo = tmpValues;
+    }
+    if (keysFrom != keys) {
+      System.arraycopy(keysFrom, 0, keys, 0, n);
+      System.arraycopy(valuesFrom, 0, values, 0, n);
+    }
+  }
+
+  /** Maps elements to 64-bit keys whose unsigned order agrees with some ordering. */
+  private abstract static class Encoder {
+    /**
+     * Returns whether this encoder can encode {@code element}, which is not null. An encoder may
+     * commit to a key type the first time this is called.
+     */
+    abstract boolean supports(Object element);
+
+    /**
+     * Returns whether equal keys imply equivalent elements, rather than just sharing a prefix.
+     * This may only be called once all elements have been checked with {@link #supports}.
+     */
+    abstract boolean exact();
+
+    abstract long encode(Object element);
+  }
+
+  /** Returns an encoder for {@code ordering}, or null if it does not support normalized keys. */
+  @Nullable
+  private static Encoder encoderFor(Comparator<?> ordering) {
+    if (ordering instanceof CompiledOrdering) {
+      return encoderFor(((CompiledOrdering<?>) ordering).source);
+    } else if (ordering instanceof ReverseOrdering) {
+      Encoder forward = encoderFor(((ReverseOrdering<?>) ordering).forwardOrder);
+      return (forward == null) ? null : new ReversedEncoder(forward);
+    } else if (ordering instanceof CompoundOrdering) {
+      ImmutableList<? extends Comparator<?>> components =
+          ((CompoundOrdering<?>) ordering).comparators;
+      Encoder first = encoderFor(components.get(0));
+      // later components only break ties, which the comparison sort of equal keys will do
+      return (first == null || components.size() == 1) ? first : new PrefixEncoder(first);
+    } else if (ordering instanceof LexicographicalOrdering) {
+      Encoder element = encoderFor(((LexicographicalOrdering<?>) ordering).elementOrder);
+      return (element == null) ? null : new LexicographicalEncoder(element);
+    } else if (ordering instanceof NaturalOrdering) {
+      return new NaturalEncoder();
+    }
+    return null;
+  }
+
+  /**
+   * Integers and longs, exactly, and strings by their first four UTF-16 code units, which {@link
+   * String#compareTo} compares first. The type is fixed by the first element encountered.
+   *
+   * <p>For integers, flipping the sign bit turns signed order into unsigned order. Strings shorter
+   * than four characters are padded with zeros; they tie with any string that extends them with
+   * zeros, and the comparison sort of equal keys puts them first.
+   */
+  private static final class NaturalEncoder extends Encoder {
+    @Nullable Class<?> type;
+
+    @Override
+    boolean supports(Object element) {
+      if (type == null) {
+        if (!(element instanceof Integer || element instanceof Long || element instanceof String)) {
+          return false;
+        }
+        type = element.getClass();
+      }
+      return element.getClass() == type;
+    }
+
+    @Override
+    boolean exact() {
+      return type != String.class;
+    }
+
+    @Override
+    long encode(Object element) {
+      if (type != String.class) {
+        return ((Number) element).longValue() ^ Long.MIN_VALUE;
+      }
+      String string = (String) element;
+      long key = 0;
+      for (int i = 0; i < 4; i++) {
+        key = (key << 16) | ((i < string.length()) ? string.charAt(i) : 0);
+      }
+      return key;
+    }
+  }
+
+  /** The key of another encoder, treated as a prefix even if that encoder is exact. */
+  private static final class PrefixEncoder extends Encoder {
+    final Encoder encoder;
+
+    PrefixEncoder(Encoder encoder) {
+      this.encoder = encoder;
+    }
+
+    @Override
+    boolean supports(Object element) {
+      return encoder.supports(element);
+    }
+
+    @Override
+    boolean exact() {
+      return false;
+    }
+
+    @Override
+    long encode(Object element) {
+      return encoder.encode(element);
+    }
+  }
+
+  private static final class ReversedEncoder extends Encoder {
+    final Encoder forward;
+
+    ReversedEncoder(Encoder forward) {
+      this.forward = forward;
+    }
+
+    @Override
+    boolean supports(Object element) {
+      return forward.supports(element);
+    }
+
+    @Override
+    boolean exact() {
+      return forward.exact();
+    }
+
+    @Override
+    long encode(Object element) {
+      return ~forward.encode(element);
+    }
+  }
+
+  /**
+   * Empty iterables get the least key. Others get the top bit, followed by all but the last bit
+   * of the key of their first element.
+   */
+  private static final class LexicographicalEncoder extends Encoder {
+    final Encoder elementEncoder;
+
+    LexicographicalEncoder(Encoder elementEncoder) {
+      this.elementEncoder = elementEncoder;
+    }
+
+    @Override
+    boolean supports(Object element) {
+      if (!(element instanceof Iterable)) {
+        return false;
+      }
+      Iterator<?> iterator = ((Iterable<?>) element).iterator();
+      if (!iterator.hasNext()) {
+        return true;
+      }
+      Object first = iterator.next();
+      return first != null && elementEncoder.supports(first);
+    }
+
+    @Override
+    boolean exact() {
+      return false;
+    }
+
+    @Override
+    long encode(Object element) {
+      Iterator<?> iterator = ((Iterable<?>) element).iterator();
+      if (!iterator.hasNext()) {
+        return 0;
+      }
+      return Long.MIN_VALUE | (elementEncoder.encode(iterator.next()) >>> 1);
+    }
+  }
+}
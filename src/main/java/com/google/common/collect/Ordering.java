@@ -15,6 +15,8 @@
  */
 package com.google.common.collect;
 
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkElementIndex;
 import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.common.collect.CollectPreconditions.checkNonnegative;
 
@@ -28,9 +30,13 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
-import java.util.concurrent.ConcurrentMap;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collector;
 
 import javax.annotation.Nullable;
 
@@ -201,20 +207,7 @@ public abstract class Ordering<T> implements Comparator<T> {
     @VisibleForTesting
     static class ArbitraryOrdering extends Ordering<Object> {
 
-        private final AtomicInteger counter = new AtomicInteger(0);
-        private final ConcurrentMap<Object, Integer> uids = Platform.tryWeakKeys(new MapMaker()).makeMap();
-
-        private Integer getUid(Object obj) {
-            Integer uid = uids.get(obj);
-            if (uid == null) {
-                uid = counter.getAndIncrement();
-                Integer alreadySet = uids.putIfAbsent(obj, uid);
-                if (alreadySet != null) {
-                    uid = alreadySet;
-                }
-            }
-            return uid;
-        }
+        private final IdentityUidTable uids = new IdentityUidTable();
 
         @Override
         public int compare(Object left, Object right) {
@@ -231,7 +224,7 @@ public abstract class Ordering<T> implements Comparator<T> {
                 return leftCode < rightCode ? -1 : 1;
             }
 
-            int result = getUid(left).compareTo(getUid(right));
+            int result = Integer.compare(uids.uid(left, leftCode), uids.uid(right, rightCode));
             if (result == 0) {
                 throw new AssertionError();
             }
@@ -294,6 +287,39 @@ public abstract class Ordering<T> implements Comparator<T> {
         return new ByFunctionOrdering<F, T>(function, this);
     }
 
+    /**
+     * Returns an ordering on F which orders elements by the {@code int} that
+     * {@code keyFunction} returns for them, without boxing. For example,
+     * {@code Ordering.onResultOfInt(Trade::getQuantity)}.
+     *
+     * <p>
+     * Comparisons never allocate. In addition, {@link #sortedCopy},
+     * {@link #immutableSortedCopy}, {@link #leastOf(Iterable, int)} and
+     * {@link #binarySearch} extract each key only once, into a primitive
+     * array, rather than on both sides of every comparison.
+     */
+    public static <F> Ordering<F> onResultOfInt(ToIntFunction<? super F> keyFunction) {
+        return new PrimitiveKeyOrdering.ByInt<F>(keyFunction);
+    }
+
+    /**
+     * Returns an ordering on F which orders elements by the {@code long} that
+     * {@code keyFunction} returns for them, without boxing. See
+     * {@link #onResultOfInt}.
+     */
+    public static <F> Ordering<F> onResultOfLong(ToLongFunction<? super F> keyFunction) {
+        return new PrimitiveKeyOrdering.ByLong<F>(keyFunction);
+    }
+
+    /**
+     * Returns an ordering on F which orders elements by the {@code double} that
+     * {@code keyFunction} returns for them, as {@link Double#compare} does,
+     * without boxing. See {@link #onResultOfInt}.
+     */
+    public static <F> Ordering<F> onResultOfDouble(ToDoubleFunction<? super F> keyFunction) {
+        return new PrimitiveKeyOrdering.ByDouble<F>(keyFunction);
+    }
+
     <T2 extends T> Ordering<Map.Entry<T2, ?>> onKeys() {
         return onResultOf(Maps.<T2> keyFunction());
     }
@@ -354,6 +380,52 @@ public abstract class Ordering<T> implements Comparator<T> {
         return new LexicographicalOrdering<S>(this);
     }
 
+    /**
+     * Returns an ordering which sorts {@code int} arrays lexicographically: by
+     * their first differing element as {@link Integer#compare} orders it, or,
+     * if one array is a prefix of the other, with the shorter array first. For
+     * example, {@code [] < [1] < [1, 1] < [1, 2] < [2]}.
+     *
+     * <p>
+     * Unlike {@code Ordering.natural().lexicographical()} applied to lists of
+     * boxed integers, comparisons allocate nothing and read the arrays
+     * directly, which matters when sorting many short composite keys.
+     */
+    @GwtCompatible(serializable = true)
+    public static Ordering<int[]> lexicographicalInts() {
+        return PrimitiveArrayOrdering.IntArrays.INSTANCE;
+    }
+
+    /**
+     * Returns an ordering which sorts {@code long} arrays lexicographically,
+     * comparing elements with {@link Long#compare}. See
+     * {@link #lexicographicalInts}.
+     */
+    @GwtCompatible(serializable = true)
+    public static Ordering<long[]> lexicographicalLongs() {
+        return PrimitiveArrayOrdering.LongArrays.INSTANCE;
+    }
+
+    /**
+     * Returns an ordering which sorts {@code byte} arrays lexicographically,
+     * comparing elements as signed values with {@link Byte#compare}. See
+     * {@link #lexicographicalInts}.
+     */
+    @GwtCompatible(serializable = true)
+    public static Ordering<byte[]> lexicographicalBytes() {
+        return PrimitiveArrayOrdering.ByteArrays.INSTANCE;
+    }
+
+    /**
+     * Returns an ordering which sorts {@code char} arrays lexicographically,
+     * comparing elements with {@link Character#compare}, so that arrays are
+     * ordered as the strings they spell are. See {@link #lexicographicalInts}.
+     */
+    @GwtCompatible(serializable = true)
+    public static Ordering<char[]> lexicographicalChars() {
+        return PrimitiveArrayOrdering.CharArrays.INSTANCE;
+    }
+
     // Regular instance methods
 
     @Override
@@ -616,6 +688,325 @@ public abstract class Ordering<T> implements Comparator<T> {
         return reverse().leastOf(iterator, k);
     }
 
+    /**
+     * Returns an iterator over the {@code k} least elements from the given
+     * iterator according to this ordering, in order from least to greatest.
+     * If there are fewer than {@code k} elements present, all will be
+     * included.
+     *
+     * <p>
+     * The input iterator is consumed (and left exhausted) before this method
+     * returns, selecting the candidates in O(n) expected time as
+     * {@link #leastOf(Iterator, int)} does. Unlike {@code leastOf}, the
+     * candidates are not sorted up front: each call to {@code next()} sorts
+     * just far enough to find the next element, so consuming the first
+     * {@code m} elements takes expected O(k + m log m) time. This suits
+     * paginated callers that rarely look past the first page.
+     *
+     * <p>
+     * When multiple elements are equivalent, it is undefined which will come
+     * first. The returned iterator does not support {@code remove()}.
+     *
+     * @throws IllegalArgumentException
+     *             if {@code k} is negative
+     */
+    public <E extends T> Iterator<E> lazyLeastOf(Iterator<E> iterator, int k) {
+        checkNotNull(iterator);
+        checkNonnegative(k, "k");
+
+        if (k >= Integer.MAX_VALUE / 2) {
+            // k is really large; incrementally sort everything
+            @SuppressWarnings("unchecked")
+            E[] array = (E[]) Lists.newArrayList(iterator).toArray();
+            return new IncrementalSortIterator<E>(array, this, k);
+        } else {
+            TopKSelector<E> selector = TopKSelector.least(k, this);
+            selector.offerAll(iterator);
+            return selector.topKIterator();
+        }
+    }
+
+    /**
+     * Returns an iterator over the {@code k} greatest elements from the given
+     * iterator according to this ordering, in order from greatest to least,
+     * sorting lazily as described in {@link #lazyLeastOf(Iterator, int)}.
+     *
+     * @throws IllegalArgumentException
+     *             if {@code k} is negative
+     */
+    public <E extends T> Iterator<E> lazyGreatestOf(Iterator<E> iterator, int k) {
+        return reverse().lazyLeastOf(iterator, k);
+    }
+
+    /**
+     * Returns the element that would be at index {@code n} if {@code elements}
+     * were sorted by this ordering; {@code select(elements, 0)} is the least
+     * element. The input is not modified.
+     *
+     * <p>
+     * This takes expected O(size) time, and O(size log size) in the worst
+     * case, rather than the O(size log size) of sorting.
+     *
+     * @throws IndexOutOfBoundsException
+     *             if {@code n} is negative or not less than the number of
+     *             elements
+     */
+    public <E extends T> E select(Iterable<E> elements, int n) {
+        @SuppressWarnings("unchecked") // all elements are Es
+        E[] array = (E[]) Iterables.toArray(elements);
+        return selectInPlace(array, n);
+    }
+
+    /**
+     * Returns the element that would be at index {@code n} if {@code array}
+     * were sorted by this ordering, partially reordering {@code array} instead
+     * of copying it: afterwards {@code array[n]} holds that element, nothing
+     * before it is greater and nothing after it is less.
+     *
+     * @throws IndexOutOfBoundsException
+     *             if {@code n} is negative or not less than
+     *             {@code array.length}
+     */
+    public <E extends T> E selectInPlace(E[] array, int n) {
+        checkElementIndex(n, array.length);
+        Quickselect.select(array, 0, array.length, n, this);
+        return array[n];
+    }
+
+    /**
+     * Returns the elements that would be at each of the indexes {@code ranks}
+     * if {@code elements} were sorted by this ordering, in the order the ranks
+     * were given. The input is not modified.
+     *
+     * <p>
+     * All of the ranks are found together in expected O(size log
+     * ranks.length) time, which is much cheaper than selecting them one at a
+     * time.
+     *
+     * @return an unmodifiable list with one element for each rank
+     * @throws IndexOutOfBoundsException
+     *             if any rank is negative or not less than the number of
+     *             elements
+     */
+    public <E extends T> List<E> selectAll(Iterable<E> elements, int... ranks) {
+        @SuppressWarnings("unchecked") // all elements are Es
+        E[] array = (E[]) Iterables.toArray(elements);
+        return selectAllInPlace(array, ranks);
+    }
+
+    /**
+     * Like {@link #selectAll(Iterable, int...)}, but partially reorders
+     * {@code array} instead of copying it: afterwards each {@code array[rank]}
+     * holds the element at that rank, with nothing greater before it and
+     * nothing less after it.
+     *
+     * @throws IndexOutOfBoundsException
+     *             if any rank is negative or not less than
+     *             {@code array.length}
+     */
+    public <E extends T> List<E> selectAllInPlace(E[] array, int... ranks) {
+        int[] sortedRanks = ranks.clone();
+        for (int rank : sortedRanks) {
+            checkElementIndex(rank, array.length);
+        }
+        Arrays.sort(sortedRanks);
+        Quickselect.selectAll(array, 0, array.length, sortedRanks, this);
+        @SuppressWarnings("unchecked") // only Es go in
+        E[] result = (E[]) new Object[ranks.length];
+        for (int i = 0; i < ranks.length; i++) {
+            result[i] = array[ranks[i]];
+        }
+        return Collections.unmodifiableList(Arrays.asList(result));
+    }
+
+    /**
+     * Returns the elements at each of the given {@code quantiles} of
+     * {@code elements}, relative to this ordering, in the order the quantiles
+     * were given. Each quantile must be between 0 and 1; quantile {@code q} of
+     * {@code size} elements is the element at rank
+     * {@code floor(q * (size - 1))}, so 0 gives the least element, 0.5 the
+     * (lower) median and 1 the greatest. The input is not modified.
+     *
+     * <p>
+     * For example, {@code Ordering.natural().quantiles(latencies, 0.5, 0.99)}
+     * returns the median and 99th percentile latencies. All quantiles are
+     * found together, as by {@link #selectAll(Iterable, int...)}.
+     *
+     * @return an unmodifiable list with one element for each quantile
+     * @throws NoSuchElementException
+     *             if {@code elements} is empty
+     * @throws IllegalArgumentException
+     *             if any quantile is not between 0 and 1
+     */
+    public <E extends T> List<E> quantiles(Iterable<E> elements, double... quantiles) {
+        @SuppressWarnings("unchecked") // all elements are Es
+        E[] array = (E[]) Iterables.toArray(elements);
+        return quantilesInPlace(array, quantiles);
+    }
+
+    /**
+     * Like {@link #quantiles(Iterable, double...)}, but partially reorders
+     * {@code array} instead of copying it, as
+     * {@link #selectAllInPlace(Object[], int...)} does.
+     *
+     * @throws NoSuchElementException
+     *             if {@code array} is empty
+     * @throws IllegalArgumentException
+     *             if any quantile is not between 0 and 1
+     */
+    public <E extends T> List<E> quantilesInPlace(E[] array, double... quantiles) {
+        if (array.length == 0) {
+            throw new NoSuchElementException();
+        }
+        int[] ranks = new int[quantiles.length];
+        for (int i = 0; i < quantiles.length; i++) {
+            double q = quantiles[i];
+            checkArgument(q >= 0.0 && q <= 1.0, "quantile must be between 0 and 1, was %s", q);
+            ranks[i] = (int) Math.floor(q * (array.length - 1));
+        }
+        return selectAllInPlace(array, ranks);
+    }
+
+    /**
+     * Returns a {@code Collector} that returns the {@code k} least elements of
+     * the stream according to this ordering, in order from least to greatest.
+     * If there are fewer than {@code k} elements present, all will be
+     * included.
+     *
+     * <p>
+     * Each partial result is a {@link TopKSelector}, and partial results are
+     * merged with {@code TopKSelector.combine}, so for a parallel stream such as
+     * {@code list.parallelStream().collect(ordering.leastK(100))} the work
+     * scales with the number of cores while each thread uses only O(k) memory.
+     *
+     * <p>
+     * The implementation does not necessarily use a <i>stable</i> sorting
+     * algorithm; when multiple elements are equivalent, it is undefined which
+     * will come first. For the same reason the collector is
+     * {@link Collector.Characteristics#UNORDERED UNORDERED}.
+     *
+     * @throws IllegalArgumentException
+     *             if {@code k} is negative
+     */
+    public <E extends T> Collector<E, ?, List<E>> leastK(int k) {
+        checkNonnegative(k, "k");
+        return Collector.of(
+                () -> TopKSelector.<E> least(k, this),
+                TopKSelector::offer,
+                TopKSelector::combine,
+                TopKSelector::topK,
+                Collector.Characteristics.UNORDERED);
+    }
+
+    /**
+     * Returns a {@code Collector} that returns the {@code k} greatest elements
+     * of the stream according to this ordering, in order from greatest to
+     * least. If there are fewer than {@code k} elements present, all will be
+     * included.
+     *
+     * <p>
+     * Like {@link #leastK}, this is suitable for parallel streams.
+     *
+     * @throws IllegalArgumentException
+     *             if {@code k} is negative
+     */
+    public <E extends T> Collector<E, ?, List<E>> greatestK(int k) {
+        return this.<E> reverse().leastK(k);
+    }
+
+    /**
+     * Returns a {@code Collector} that groups the elements of the stream by
+     * {@code classifier} and returns, for each group, its {@code k} least
+     * elements according to this ordering, in order from least to greatest.
+     * For example, {@code sales.stream().collect(byRevenue.greatestKPerGroup(
+     * Sale::getCategory, 5))} finds the five best sales in each category.
+     *
+     * <p>
+     * Unlike {@code Collectors.groupingBy(classifier, leastK(k))}, every
+     * group shares one {@link GroupedTopKSelector}, whose per-group buffers
+     * start at a single element and grow only as needed, so small groups cost
+     * a few words each instead of O(k). Partial results are merged with
+     * {@code GroupedTopKSelector.combine}, so this is suitable for parallel
+     * streams. As with {@link #leastK}, the collector is
+     * {@link Collector.Characteristics#UNORDERED UNORDERED}.
+     *
+     * @throws IllegalArgumentException
+     *             if {@code k} is negative
+     */
+    public <E extends T, K> Collector<E, ?, Map<K, List<E>>> leastKPerGroup(
+            Function<? super E, ? extends K> classifier, int k) {
+        checkNotNull(classifier);
+        checkNonnegative(k, "k");
+        return Collector.of(
+                () -> GroupedTopKSelector.<K, E> least(k, this),
+                (selector, element) -> selector.offer(classifier.apply(element), element),
+                GroupedTopKSelector::combine,
+                GroupedTopKSelector::topK,
+                Collector.Characteristics.UNORDERED);
+    }
+
+    /**
+     * Returns a {@code Collector} that groups the elements of the stream by
+     * {@code classifier} and returns, for each group, its {@code k} greatest
+     * elements according to this ordering, in order from greatest to least.
+     *
+     * <p>
+     * Like {@link #leastKPerGroup}, this is suitable for parallel streams.
+     *
+     * @throws IllegalArgumentException
+     *             if {@code k} is negative
+     */
+    public <E extends T, K> Collector<E, ?, Map<K, List<E>>> greatestKPerGroup(
+            Function<? super E, ? extends K> classifier, int k) {
+        return this.<E> reverse().leastKPerGroup(classifier, k);
+    }
+
+    /**
+     * Returns a {@code Collector} that returns the {@code k} least elements of
+     * the stream according to this ordering, in order from least to greatest,
+     * keeping only the least element for each distinct key computed by
+     * {@code keyFunction}. For example, {@code scores.stream().collect(
+     * byScore.greatestKDistinct(Score::getUser, 20))} finds the 20 users with
+     * the best scores, each with their best score. If there are fewer than
+     * {@code k} distinct keys, an element for each of them will be included.
+     *
+     * <p>
+     * Each partial result is a {@link DistinctTopKSelector}, which only ever
+     * holds O(k) elements and keys, however many distinct keys the stream
+     * has. Like {@link #leastK}, this is suitable for parallel streams.
+     *
+     * @throws IllegalArgumentException
+     *             if {@code k} is negative
+     */
+    public <E extends T> Collector<E, ?, List<E>> leastKDistinct(
+            Function<? super E, ?> keyFunction, int k) {
+        checkNotNull(keyFunction);
+        checkNonnegative(k, "k");
+        return Collector.of(
+                () -> DistinctTopKSelector.<E, Object> least(k, this, keyFunction),
+                DistinctTopKSelector::offer,
+                DistinctTopKSelector::combine,
+                DistinctTopKSelector::topK,
+                Collector.Characteristics.UNORDERED);
+    }
+
+    /**
+     * Returns a {@code Collector} that returns the {@code k} greatest elements
+     * of the stream according to this ordering, in order from greatest to
+     * least, keeping only the greatest element for each distinct key computed
+     * by {@code keyFunction}.
+     *
+     * <p>
+     * Like {@link #leastKDistinct}, this is suitable for parallel streams.
+     *
+     * @throws IllegalArgumentException
+     *             if {@code k} is negative
+     */
+    public <E extends T> Collector<E, ?, List<E>> greatestKDistinct(
+            Function<? super E, ?> keyFunction, int k) {
+        return this.<E> reverse().leastKDistinct(keyFunction, k);
+    }
+
     /**
      * Returns a <b>mutable</b> list containing {@code elements} sorted by this ordering; use this
      * only when the resulting list may need further modification, or may contain {@code null}. The
@@ -635,7 +1026,9 @@ public abstract class Ordering<T> implements Comparator<T> {
     public <E extends T> List<E> sortedCopy(Iterable<E> elements){
         @SuppressWarnings("unchecked")
         E[] array = (E[])Iterables.toArray(elements);
-        Arrays.sort(array,this);
+        if (!NormalizedKeySort.sort(array, this)) {
+            Arrays.sort(array, this);
+        }
         return Lists.newArrayList(Arrays.asList(array));
     }
     
@@ -661,6 +1054,122 @@ public abstract class Ordering<T> implements Comparator<T> {
         return ImmutableList.sortedCopyOf(this, elements);
     }
 
+    /**
+     * Returns a <b>mutable</b> list containing {@code elements} sorted by this
+     * ordering, like {@link #sortedCopy}, but sorting in parallel in the
+     * {@linkplain ForkJoinPool#commonPool common pool}. The sort is
+     * <i>stable</i>, exactly as for {@link #sortedCopy}. Inputs too small to
+     * benefit from forking are sorted sequentially.
+     *
+     * <p>
+     * This ordering may be called concurrently from several threads, so it
+     * must be thread-safe, as almost all orderings are.
+     */
+    public <E extends T> List<E> parallelSortedCopy(Iterable<E> elements) {
+        return parallelSortedCopy(elements, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Returns a <b>mutable</b> list containing {@code elements} sorted by this
+     * ordering, like {@link #sortedCopy}, but sorting in parallel in
+     * {@code pool}, so that a large sort can be kept away from the common pool.
+     * The sort is <i>stable</i>. Inputs too small to benefit from forking are
+     * sorted sequentially in the calling thread.
+     */
+    public <E extends T> List<E> parallelSortedCopy(Iterable<E> elements, ForkJoinPool pool) {
+        @SuppressWarnings("unchecked")
+        E[] array = (E[]) Iterables.toArray(elements);
+        ParallelSort.sort(array, this, pool);
+        return Lists.newArrayList(Arrays.asList(array));
+    }
+
+    /**
+     * Returns an immutable list containing {@code elements} sorted by this
+     * ordering, like {@link #immutableSortedCopy}, but sorting in parallel in
+     * the {@linkplain ForkJoinPool#commonPool common pool}. The sort is
+     * <i>stable</i>.
+     *
+     * @throws NullPointerException
+     *             if any element of elements is null
+     */
+    public <E extends T> ImmutableList<E> parallelImmutableSortedCopy(Iterable<E> elements) {
+        return parallelImmutableSortedCopy(elements, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Returns an immutable list containing {@code elements} sorted by this
+     * ordering, like {@link #immutableSortedCopy}, but sorting in parallel in
+     * {@code pool}. The sort is <i>stable</i>.
+     *
+     * @throws NullPointerException
+     *             if any element of elements is null
+     */
+    public <E extends T> ImmutableList<E> parallelImmutableSortedCopy(
+            Iterable<E> elements, ForkJoinPool pool) {
+        @SuppressWarnings("unchecked")
+        E[] array = (E[]) Iterables.toArray(elements);
+        for (E element : array) {
+            checkNotNull(element);
+        }
+        ParallelSort.sort(array, this, pool);
+        return ImmutableList.asImmutableList(array);
+    }
+
+    /**
+     * Returns an iterator over the elements of all of {@code sortedIterables},
+     * each of which must already be sorted by this ordering, in sorted order.
+     * The merge is lazy, taking elements from the iterables only as they are
+     * needed, and <i>stable</i>: equivalent elements come out in the order of
+     * the iterables that hold them, as if the iterables had been concatenated
+     * and passed to {@link #sortedCopy}.
+     *
+     * <p>
+     * The merge is driven by a loser tree, so merging n elements from k
+     * iterables takes O(n log k) time, rather than the O(n log n) of sorting
+     * them again. If an iterable is not sorted, the output is not sorted
+     * either; no exception is thrown. The returned iterator does not support
+     * {@code remove()}.
+     */
+    public <E extends T> Iterator<E> mergeSorted(
+            Iterable<? extends Iterable<? extends E>> sortedIterables) {
+        List<Iterator<? extends E>> iterators = new ArrayList<Iterator<? extends E>>();
+        for (Iterable<? extends E> iterable : sortedIterables) {
+            iterators.add(iterable.iterator());
+        }
+        return new LoserTreeIterator<E>(iterators, this);
+    }
+
+    /**
+     * Returns an immutable list of the elements of all of
+     * {@code sortedIterables}, each of which must already be sorted by this
+     * ordering, in sorted order. This is an eager form of {@link #mergeSorted};
+     * if all of the iterables are collections, the result is built in an
+     * array of exactly the right size.
+     *
+     * @throws NullPointerException
+     *             if any element is null
+     */
+    public <E extends T> ImmutableList<E> immutableMergeSorted(
+            Iterable<? extends Iterable<? extends E>> sortedIterables) {
+        long size = 0;
+        for (Iterable<? extends E> iterable : sortedIterables) {
+            size += (iterable instanceof Collection) ? ((Collection<?>) iterable).size() : 0;
+        }
+        Object[] array = new Object[(int) Math.min(size, Integer.MAX_VALUE - 8)];
+        int count = 0;
+        for (Iterator<E> merged = mergeSorted(sortedIterables); merged.hasNext(); ) {
+            if (count == array.length) {
+                // some of the iterables are not collections
+                array = Arrays.copyOf(array, Math.max(2 * count, 16));
+            }
+            array[count++] = checkNotNull(merged.next());
+        }
+        if (count < array.length) {
+            array = Arrays.copyOf(array, count);
+        }
+        return ImmutableList.asImmutableList(array);
+    }
+
     /**
      * Returns true if each element in iterable after the first is greater than
      * or equal to the element that preceded it, according to this ordering.
@@ -726,6 +1235,89 @@ public abstract class Ordering<T> implements Comparator<T> {
         return Collections.binarySearch(sortedList, key, this);
     }
 
+    /**
+     * Searches {@code sortedList} for each of {@code sortedKeys}, returning
+     * for each key what {@link #binarySearch} would: the index of an element
+     * equivalent to it, if any, and otherwise
+     * {@code (-(insertion point) - 1)}. Both lists must be sorted using this
+     * ordering. Where there are equivalent elements, the first is found.
+     *
+     * <p>
+     * Since the keys are sorted, each search starts where the previous one
+     * ended, and gallops forward with steps of 1, 2, 4, ... before a binary
+     * search of the last step. A key {@code d} positions past the previous
+     * one costs about {@code 2 log2(d)} comparisons, so m keys cost
+     * O(m + n) comparisons when they are dense in the list, and never more
+     * than about twice the O(m log n) of separate searches. If a key is less
+     * than the one before it, its search starts over from the beginning, so
+     * unsorted keys give correct, if slower, results.
+     *
+     * @param sortedList
+     *            the list to be searched.
+     * @param sortedKeys
+     *            the keys to be searched for.
+     * @return an array with the result for each key, in order
+     */
+    public int[] binarySearchAll(List<? extends T> sortedList, List<? extends T> sortedKeys) {
+        @SuppressWarnings("unchecked") // only Ts are ever stored
+        List<T> list = (List<T>) ((sortedList instanceof RandomAccess)
+                ? sortedList : Arrays.asList(sortedList.toArray()));
+        int n = list.size();
+        int[] results = new int[sortedKeys.size()];
+        int start = 0;
+        T previous = null;
+        int i = 0;
+        for (T key : sortedKeys) {
+            if (i > 0 && compare(key, previous) < 0) {
+                start = 0;
+            }
+            // gallop: probe start, start + 1, start + 3, start + 7, ...
+            int low = start;
+            int high = n;
+            for (int offset = 0, step = 1; offset < n - start; offset += step, step <<= 1) {
+                int probe = start + offset;
+                if (compare(list.get(probe), key) >= 0) {
+                    high = probe;
+                    break;
+                }
+                low = probe + 1;
+            }
+            // the first element not less than key is in [low, high]
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (compare(list.get(mid), key) < 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            boolean found = low < n && compare(list.get(low), key) == 0;
+            results[i++] = found ? low : -(low + 1);
+            start = low;
+            previous = key;
+        }
+        return results;
+    }
+
+    /**
+     * Returns an immutable index over {@code elements}, sorted by this
+     * ordering, that supports repeated searches faster than
+     * {@link #binarySearch} on a sorted list: lower and upper bounds, ranges
+     * and batches of lookups. The sort is stable.
+     *
+     * <p>
+     * The index keeps its elements in a cache-friendly breadth-first layout,
+     * and, for the orderings returned by {@link #onResultOfInt} and its
+     * siblings, a primitive array of their keys. It is worth building for a
+     * large table that is searched many times.
+     *
+     * @throws NullPointerException
+     *             if any of {@code elements} is null
+     */
+    public <E extends T> SortedIndex<E> sortedIndex(Iterable<E> elements) {
+        return SortedIndex.create(this, immutableSortedCopy(elements));
+    }
+
     static class IncomparableValueException extends ClassCastException {
         final Object value;
 
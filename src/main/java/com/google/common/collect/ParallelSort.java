@@ -0,0 +1,201 @@
+/*
+ * Copyright (C) 2026 The guava_learn Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.common.collect;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * A stable fork-join merge sort of object arrays that runs in a caller-chosen {@link
+ * ForkJoinPool}.
+ *
+ * <p>{@code Arrays.parallelSort} always sizes its work for the common pool, and sorts sequentially
+ * when the common pool has a parallelism of one, so it cannot be isolated in a dedicated pool.
+ * Here, the array is split in halves down to chunks of about {@code n / (8 · parallelism)}
+ * elements, which are sorted with {@link Arrays#sort(Object[], int, int, Comparator)}. Sorted
+ * halves are merged in parallel, by splitting the larger run at its midpoint and the other run at
+ * the matching position found by binary search. Ties always go to the left run, so, like {@code
+ * Arrays.sort}, the sort is <i>stable</i>.
+ */
+final class ParallelSort {
+  private ParallelSort() {}
+
+  /** Below this many elements, sorting sequentially is faster than forking. */
+  static final int THRESHOLD = 1 << 13;
+
+  /** Below this many elements, merges are not split further. */
+  private static final int MIN_MERGE = 1 << 12;
+
+  /** Stably sorts {@code array} by {@code comparator}, using the threads of {@code pool}. */
+  static <E> void sort(E[] array, Comparator<? super E> comparator, ForkJoinPool pool) {
+    checkNotNull(comparator);
+    checkNotNull(pool);
+    int n = array.length;
+    if (n < THRESHOLD || pool.getParallelism() == 1) {
+      Arrays.sort(array, comparator);
+      return;
+    }
+    int chunk = Math.max(n / (8 * pool.getParallelism()), THRESHOLD);
+    @SuppressWarnings("unchecked") // only Es are ever stored
+    E[] buffer = (E[]) new Object[n];
+    pool.invoke(new SortTask<E>(array, buffer, 0, n, chunk, comparator));
+  }
+
+  /** Sorts array[lo, hi), using buffer[lo, hi) as scratch space. */
+  private static final class SortTask<E> extends RecursiveAction {
+    final E[] array;
+    final E[] buffer;
+    final int lo;
+    final int hi;
+    final int chunk;
+    final Comparator<? super E> comparator;
+
+    SortTask(E[] array, E[] buffer, int lo, int hi, int chunk, Comparator<? super E> comparator) {
+      this.array = array;
+      this.buffer = buffer;
+      this.lo = lo;
+      this.hi = hi;
+      this.chunk = chunk;
+      this.comparator = comparator;
+    }
+
+    @Override
+    protected void compute() {
+      if (hi - lo <= chunk) {
+        Arrays.sort(array, lo, hi, comparator);
+        return;
+      }
+      int mid = (lo + hi) >>> 1;
+      invokeAll(
+          new SortTask<E>(array, buffer, lo, mid, chunk, comparator),
+          new SortTask<E>(array, buffer, mid, hi, chunk, comparator));
+      if (comparator.compare(array[mid - 1], array[mid]) <= 0) {
+        return; // already in order
+      }
+      new MergeTask<E>(array, buffer, lo, mid, mid, hi, lo, comparator).invoke();
+      System.arraycopy(buffer, lo, array, lo, hi - lo);
+    }
+
+    private static final long serialVersionUID = 0;
+  }
+
+  /**
+   * Merges the sorted runs source[leftLo, leftHi) and source[rightLo, rightHi) into target,
+   * starting at out. Elements of the left run come first among equal elements.
+   */
+  private static final class MergeTask<E> extends RecursiveAction {
+    final E[] source;
+    final E[] target;
+    final int leftLo;
+    final int leftHi;
+    final int rightLo;
+    final int rightHi;
+    final int out;
+    final Comparator<? super E> comparator;
+
+    MergeTask(
+        E[] source,
+        E[] target,
+        int leftLo,
+        int leftHi,
+        int rightLo,
+        int rightHi,
+        int out,
+        Comparator<? super E> comparator) {
+      this.source = source;
+      this.target = target;
+      this.leftLo = leftLo;
+      this.leftHi = leftHi;
+      this.rightLo = rightLo;
+      this.rightHi = rightHi;
+      this.out = out;
+      this.comparator = comparator;
+    }
+
+    @Override
+    protected void compute() {
+      int leftSize = leftHi - leftLo;
+      int rightSize = rightHi - rightLo;
+      if (leftSize + rightSize <= MIN_MERGE || leftSize == 0 || rightSize == 0) {
+        merge();
+        return;
+      }
+      int leftSplit;
+      int rightSplit;
+      if (leftSize >= rightSize) {
+        // right elements equal to the pivot must stay after it
+        leftSplit = (leftLo + leftHi) >>> 1;
+        rightSplit = lowerBound(rightLo, rightHi, source[leftSplit]);
+      } else {
+        // left elements equal to the pivot must stay before it
+        rightSplit = (rightLo + rightHi) >>> 1;
+        leftSplit = upperBound(leftLo, leftHi, source[rightSplit]);
+      }
+      int secondOut = out + (leftSplit - leftLo) + (rightSplit - rightLo);
+      invokeAll(
+          new MergeTask<E>(
+              source, target, leftLo, leftSplit, rightLo, rightSplit, out, comparator),
+          new MergeTask<E>(
+              source, target, leftSplit, leftHi, rightSplit, rightHi, secondOut, comparator));
+    }
+
+    /** Returns the first index in [lo, hi) whose element is not less than key. */
+    private int lowerBound(int lo, int hi, E key) {
+      while (lo < hi) {
+        int mid = (lo + hi) >>> 1;
+        if (comparator.compare(source[mid], key) < 0) {
+          lo = mid + 1;
+        } else {
+          hi = mid;
+        }
+      }
+      return lo;
+    }
+
+    /** Returns the first index in [lo, hi) whose element is greater than key. */
+    private int upperBound(int lo, int hi, E key) {
+      while (lo < hi) {
+        int mid = (lo + hi) >>> 1;
+        if (comparator.compare(source[mid], key) <= 0) {
+          lo = mid + 1;
+        } else {
+          hi = mid;
+        }
+      }
+      return lo;
+    }
+
+    private void merge() {
+      int i = leftLo;
+      int j = rightLo;
+      int k = out;
+      while (i < leftHi && j < rightHi) {
+        // take from the right run only if strictly less, to keep the sort stable
+        target[k++] = (comparator.compare(source[j], source[i]) < 0) ? source[j++] : source[i++];
+      }
+      System.arraycopy(source, i, target, k, leftHi - i);
+      k += leftHi - i;
+      System.arraycopy(source, j, target, k, rightHi - j);
+    }
+
+    private static final long serialVersionUID = 0;
+  }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright (C) 2026 The guava_learn Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.common.collect;
+
+import com.google.common.annotations.GwtCompatible;
+
+/**
+ * A stable sort of the indexes {@code 0} through {@code n - 1} by a comparison of the elements, or
+ * of the precomputed keys, at those indexes. Sorting the indexes rather than the elements lets
+ * callers compare keys held in separate arrays, including primitive ones, without pairing each key
+ * with its element in a wrapper object.
+ */
+@GwtCompatible
+final class PermutationSort {
+  private PermutationSort() {}
+
+  /** Compares whatever lies at two indexes. */
+  interface IndexComparator {
+    int compare(int left, int right);
+  }
+
+  /** Returns the indexes {@code 0} through {@code n - 1}, stably sorted by {@code comparator}. */
+  static int[] sortedPermutation(int n, IndexComparator comparator) {
+    int[] permutation = new int[n];
+    for (int i = 0; i < n; i++) {
+      permutation[i] = i;
+    }
+    sort(permutation, comparator);
+    return permutation;
+  }
+
+  /**
+   * Stably sorts {@code permutation} by {@code comparator}, with a bottom-up merge sort. Run
+   * boundaries are computed so that they never exceed {@code permutation.length}, even for lengths
+   * above {@code 2^30}, where doubling the run width would overflow.
+   */
+  static void sort(int[] permutation, IndexComparator comparator) {
+    int n = permutation.length;
+    int[] from = permutation;
+    int[] to = new int[n];
+    for (int width = 1; width < n; width = (width < n - width) ? 2 * width : n) {
+      for (int lo = 0; lo < n; ) {
+        int mid = (width < n - lo) ? lo + width : n;
+        int hi = (width < n - mid) ? mid + width : n;
+        int i = lo;
+        int j = mid;
+        int out = lo;
+        while (i < mid && j < hi) {
+          // take from the right run only if strictly less, to keep the sort stable
+          to[out++] = (comparator.compare(from[j], from[i]) < 0) ? from[j++] : from[i++];
+        }
+        System.arraycopy(from, i, to, out, mid - i);
+        out += mid - i;
+        System.arraycopy(from, j, to, out, hi - j);
+        lo = hi;
+      }
+      int[] tmp = from;
+      from = to;
+      to = tmp;
+    }
+    if (from != permutation) {
+      System.arraycopy(from, 0, permutation, 0, n);
+    }
+  }
+
+  /**
+   * Rearranges {@code array} so that {@code array[i]} becomes the old {@code
+   * array[permutation[i]]}.
+   */
+  static void apply(Object[] array, int[] permutation) {
+    Object[] permuted = new Object[array.length];
+    for (int i = 0; i < permuted.length; i++) {
+      permuted[i] = array[permutation[i]];
+    }
+    System.arraycopy(permuted, 0, array, 0, array.length);
+  }
+}
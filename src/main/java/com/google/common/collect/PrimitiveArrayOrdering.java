@@ -0,0 +1,137 @@
+/*
+ * Copyright (C) 2026 The guava_learn Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.common.collect;
+
+import com.google.common.annotations.GwtCompatible;
+import java.io.Serializable;
+
+/**
+ * Lexicographical orderings of primitive arrays. See {@link Ordering#lexicographicalInts} and its
+ * siblings.
+ *
+ * <p>Each compares elements as its element type's {@code compare} method does, up to the first
+ * index at which the arrays differ; if there is none, the shorter array is the lesser. Each
+ * comparison is one tight loop over the two arrays, with no boxing and no iterators.
+ */
+@GwtCompatible(serializable = true)
+final class PrimitiveArrayOrdering {
+  private PrimitiveArrayOrdering() {}
+
+  static final class IntArrays extends Ordering<int[]> implements Serializable {
+    static final IntArrays INSTANCE = new IntArrays();
+
+    @Override
+    public int compare(int[] left, int[] right) {
+      int length = Math.min(left.length, right.length);
+      for (int i = 0; i < length; i++) {
+        if (left[i] != right[i]) {
+          return Integer.compare(left[i], right[i]);
+        }
+      }
+      return left.length - right.length;
+    }
+
+    private Object readResolve() {
+      return INSTANCE;
+    }
+
+    @Override
+    public String toString() {
+      return "Ordering.lexicographicalInts()";
+    }
+
+    private static final long serialVersionUID = 0;
+  }
+
+  static final class LongArrays extends Ordering<long[]> implements Serializable {
+    static final LongArrays INSTANCE = new LongArrays();
+
+    @Override
+    public int compare(long[] left, long[] right) {
+      int length = Math.min(left.length, right.length);
+      for (int i = 0; i < length; i++) {
+        if (left[i] != right[i]) {
+          return Long.compare(left[i], right[i]);
+        }
+      }
+      return left.length - right.length;
+    }
+
+    private Object readResolve() {
+      return INSTANCE;
+    }
+
+    @Override
+    public String toString() {
+      return "Ordering.lexicographicalLongs()";
+    }
+
+    private static final long serialVersionUID = 0;
+  }
+
+  static final class ByteArrays extends Ordering<byte[]> implements Serializable {
+    static final ByteArrays INSTANCE = new ByteArrays();
+
+    @Override
+    public int compare(byte[] left, byte[] right) {
+      int length = Math.min(left.length, right.length);
+      for (int i = 0; i < length; i++) {
+        if (left[i] != right[i]) {
+          return left[i] - right[i];
+        }
+      }
+      return left.length - right.length;
+    }
+
+    private Object readResolve() {
+      return INSTANCE;
+    }
+
+    @Override
+    public String toString() {
+      return "Ordering.lexicographicalBytes()";
+    }
+
+    private static final long serialVersionUID = 0;
+  }
+
+  static final class CharArrays extends Ordering<char[]> implements Serializable {
+    static final CharArrays INSTANCE = new CharArrays();
+
+    @Override
+    public int compare(char[] left, char[] right) {
+      int length = Math.min(left.length, right.length);
+      for (int i = 0; i < length; i++) {
+        if (left[i] != right[i]) {
+          return left[i] - right[i];
+        }
+      }
+      return left.length - right.length;
+    }
+
+    private Object readResolve() {
+      return INSTANCE;
+    }
+
+    @Override
+    public String toString() {
+      return "Ordering.lexicographicalChars()";
+    }
+
+    private static final long serialVersionUID = 0;
+  }
+}
@@ -0,0 +1,229 @@
+/*
+ * Copyright (C) 2026 The guava_learn Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.common.collect;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.collect.CollectPreconditions.checkNonnegative;
+import static com.google.common.collect.ObjectArrays.checkElementsNotNull;
+
+import com.google.common.annotations.GwtCompatible;
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+import javax.annotation.Nullable;
+
+/**
+ * An ordering by a primitive {@code int}, {@code long} or {@code double} key. See {@link
+ * Ordering#onResultOfInt}, {@link Ordering#onResultOfLong} and {@link Ordering#onResultOfDouble}.
+ *
+ * <p>Every key is mapped to a {@code long} whose signed order is the order of the key, so {@link
+ * #compare} never allocates. The bulk operations go further, extracting each key once into a
+ * {@code long[]} and sorting or selecting on that array instead of calling the key function on
+ * both sides of every comparison.
+ */
+@GwtCompatible(serializable = true)
+abstract class PrimitiveKeyOrdering<F> extends Ordering<F> implements Serializable {
+
+  /** Returns a {@code long} whose signed order is the order of the key of {@code value}. */
+  abstract long sortableKey(F value);
+
+  @Override
+  public int compare(F left, F right) {
+    return Long.compare(sortableKey(left), sortableKey(right));
+  }
+
+  private <E extends F> long[] sortableKeys(E[] array) {
+    long[] keys = new long[array.length];
+    for (int i = 0; i < array.length; i++) {
+      keys[i] = sortableKey(array[i]);
+    }
+    return keys;
+  }
+
+  @Override
+  public <E extends F> List<E> sortedCopy(Iterable<E> elements) {
+    @SuppressWarnings("unchecked") // only Es are ever stored
+    E[] array = (E[]) Iterables.toArray(elements);
+    sortByKeys(array, sortableKeys(array));
+    return Lists.newArrayList(Arrays.asList(array));
+  }
+
+  @Override
+  public <E extends F> ImmutableList<E> immutableSortedCopy(Iterable<E> elements) {
+    @SuppressWarnings("unchecked") // only Es are ever stored
+    E[] array = (E[]) Iterables.toArray(elements);
+    checkElementsNotNull(array);
+    sortByKeys(array, sortableKeys(array));
+    return ImmutableList.asImmutableList(array);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>This extracts each key once and selects on the unboxed keys with a {@link
+   * KeyedTopKSelector}, which holds at most {@code 2k} candidates at a time, so it takes {@code
+   * O(k)} memory however many elements there are. Unlike the general implementation, it is stable:
+   * equivalent elements keep their iteration order.
+   */
+  @Override
+  public <E extends F> List<E> leastOf(Iterable<E> iterable, int k) {
+    checkNonnegative(k, "k");
+    KeyedTopKSelector.ByLong<E> selector = KeyedTopKSelector.leastByLong(k);
+    for (E element : iterable) {
+      selector.offer(sortableKey(element), element);
+    }
+    return selector.topK();
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>For a random-access list, this extracts the key of {@code key} only once, and that of one
+   * list element per probe.
+   */
+  @Override
+  public int binarySearch(List<? extends F> sortedList, @Nullable F key) {
+    if (!(sortedList instanceof RandomAccess)) {
+      return super.binarySearch(sortedList, key);
+    }
+    long target = sortableKey(key);
+    int low = 0;
+    int high = sortedList.size() - 1;
+    while (low <= high) {
+      int mid = (low + high) >>> 1;
+      long midKey = sortableKey(sortedList.get(mid));
+      if (midKey < target) {
+        low = mid + 1;
+      } else if (midKey > target) {
+        high = mid - 1;
+      } else {
+        return mid;
+      }
+    }
+    return -(low + 1);
+  }
+
+  /** Stably sorts {@code array} by {@code keys}, where {@code keys[i]} is the key of array[i]. */
+  static <E> void sortByKeys(E[] array, long[] keys) {
+    int[] permutation = PermutationSort.sortedPermutation(
+        array.length, (left, right) -> Long.compare(keys[left], keys[right]));
+    PermutationSort.apply(array, permutation);
+  }
+
+  static final class ByInt<F> extends PrimitiveKeyOrdering<F> {
+    final ToIntFunction<? super F> function;
+
+    ByInt(ToIntFunction<? super F> function) {
+      this.function = checkNotNull(function);
+    }
+
+    @Override
+    long sortableKey(F value) {
+      return function.applyAsInt(value);
+    }
+
+    @Override
+    public int compare(F left, F right) {
+      return Integer.compare(function.applyAsInt(left), function.applyAsInt(right));
+    }
+
+    @Override
+    public boolean equals(@Nullable Object object) {
+      return object instanceof ByInt && function.equals(((ByInt<?>) object).function);
+    }
+
+    @Override
+    public int hashCode() {
+      return function.hashCode() ^ 0x1b873593; // meaningless
+    }
+
+    @Override
+    public String toString() {
+      return "Ordering.onResultOfInt(" + function + ")";
+    }
+
+    private static final long serialVersionUID = 0;
+  }
+
+  static final class ByLong<F> extends PrimitiveKeyOrdering<F> {
+    final ToLongFunction<? super F> function;
+
+    ByLong(ToLongFunction<? super F> function) {
+      this.function = checkNotNull(function);
+    }
+
+    @Override
+    long sortableKey(F value) {
+      return function.applyAsLong(value);
+    }
+
+    @Override
+    public boolean equals(@Nullable Object object) {
+      return object instanceof ByLong && function.equals(((ByLong<?>) object).function);
+    }
+
+    @Override
+    public int hashCode() {
+      return function.hashCode() ^ 0x5bd1e995; // meaningless
+    }
+
+    @Override
+    public String toString() {
+      return "Ordering.onResultOfLong(" + function + ")";
+    }
+
+    private static final long serialVersionUID = 0;
+  }
+
+  static final class ByDouble<F> extends PrimitiveKeyOrdering<F> {
+    final ToDoubleFunction<? super F> function;
+
+    ByDouble(ToDoubleFunction<? super F> function) {
+      this.function = checkNotNull(function);
+    }
+
+    /** Orders keys as {@link Double#compare} does. */
+    @Override
+    long sortableKey(F value) {
+      long bits = Double.doubleToLongBits(function.applyAsDouble(value));
+      return DoubleTopKSelector.sortableBits(bits);
+    }
+
+    @Override
+    public boolean equals(@Nullable Object object) {
+      return object instanceof ByDouble && function.equals(((ByDouble<?>) object).function);
+    }
+
+    @Override
+    public int hashCode() {
+      return function.hashCode() ^ 0x27d4eb2d; // meaningless
+    }
+
+    @Override
+    public String toString() {
+      return "Ordering.onResultOfDouble(" + function + ")";
+    }
+
+    private static final long serialVersionUID = 0;
+  }
+
+  private static final long serialVersionUID = 0;
+}
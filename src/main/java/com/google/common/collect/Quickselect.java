@@ -0,0 +1,127 @@
+/*
+ * Copyright (C) 2026 The guava_learn Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.common.collect;
+
+import com.google.common.annotations.GwtCompatible;
+import com.google.common.math.IntMath;
+import java.math.RoundingMode;
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * In-place selection of order statistics from arrays, relative to a comparator.
+ *
+ * <p>This is the same bounded quickselect that {@link TopKSelector} uses, sharing its {@link
+ * #partition} step: after 3·log2(n) partitioning steps without finding the target, the remaining
+ * range is simply sorted, so selection takes expected O(n) time and O(n log n) in the worst case.
+ * Selecting several ranks at once splits the array around the middle requested rank and recurses
+ * on each side with the ranks that fall there, which takes O(n log q) expected time for q ranks
+ * instead of O(q · n).
+ */
+@GwtCompatible
+final class Quickselect {
+  private Quickselect() {}
+
+  /**
+   * Rearranges {@code array[from, to)} so that {@code array[rank]} holds the element that would be
+   * there if the range were sorted, everything in {@code [from, rank)} is less than or equal to it,
+   * and everything in {@code (rank, to)} is greater than or equal to it.
+   */
+  static <T> void select(T[] array, int from, int to, int rank, Comparator<? super T> comparator) {
+    int left = from;
+    int right = to - 1;
+    int iterations = 0;
+    int maxIterations = IntMath.log2(Math.max(right - left, 1), RoundingMode.CEILING) * 3;
+    while (left < right) {
+      int pivotNewIndex = partition(array, left, right, (left + right + 1) >>> 1, comparator);
+      if (pivotNewIndex > rank) {
+        right = pivotNewIndex - 1;
+      } else if (pivotNewIndex < rank) {
+        left = pivotNewIndex + 1;
+      } else {
+        return;
+      }
+      if (++iterations >= maxIterations) {
+        // We've already taken O(n log n), let's make sure we don't take longer than O(n log n).
+        Arrays.sort(array, left, right + 1, comparator);
+        return;
+      }
+    }
+  }
+
+  /**
+   * Rearranges {@code array[from, to)} so that, for each of {@code ranks}, {@code array[rank]}
+   * holds the element that would be there if the range were sorted, with the same partitioning
+   * guarantees as {@link #select} around each of them. {@code ranks} must be sorted in ascending
+   * order and lie within {@code [from, to)}.
+   */
+  static <T> void selectAll(
+      T[] array, int from, int to, int[] ranks, Comparator<? super T> comparator) {
+    selectAll(array, from, to, ranks, 0, ranks.length, comparator);
+  }
+
+  private static <T> void selectAll(
+      T[] array,
+      int from,
+      int to,
+      int[] ranks,
+      int ranksFrom,
+      int ranksTo,
+      Comparator<? super T> comparator) {
+    if (ranksFrom >= ranksTo) {
+      return;
+    }
+    int middle = (ranksFrom + ranksTo) >>> 1;
+    int rank = ranks[middle];
+    select(array, from, to, rank, comparator);
+    // Everything before rank is now no greater than array[rank], and everything after it no less.
+    int leftRanksTo = middle;
+    while (leftRanksTo > ranksFrom && ranks[leftRanksTo - 1] == rank) {
+      leftRanksTo--;
+    }
+    int rightRanksFrom = middle + 1;
+    while (rightRanksFrom < ranksTo && ranks[rightRanksFrom] == rank) {
+      rightRanksFrom++;
+    }
+    selectAll(array, from, rank, ranks, ranksFrom, leftRanksTo, comparator);
+    selectAll(array, rank + 1, to, ranks, rightRanksFrom, ranksTo, comparator);
+  }
+
+  /**
+   * Partitions array[left, right] around the element at pivotIndex. Returns the new index of the
+   * pivot, so that everything before it in the range is less than the pivot and everything after it
+   * is not. {@link TopKSelector} trims its buffer with this as well.
+   */
+  static <T> int partition(
+      T[] array, int left, int right, int pivotIndex, Comparator<? super T> comparator) {
+    T pivotValue = array[pivotIndex];
+    array[pivotIndex] = array[right];
+
+    int pivotNewIndex = left;
+    for (int i = left; i < right; i++) {
+      if (comparator.compare(array[i], pivotValue) < 0) {
+        T tmp = array[pivotNewIndex];
+        array[pivotNewIndex] = array[i];
+        array[i] = tmp;
+        pivotNewIndex++;
+      }
+    }
+    array[right] = array[pivotNewIndex];
+    array[pivotNewIndex] = pivotValue;
+    return pivotNewIndex;
+  }
+}
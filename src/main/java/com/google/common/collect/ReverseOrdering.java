@@ -36,55 +36,49 @@ public final class ReverseOrdering<T> extends Ordering<T>implements Serializable
 
     @Override
     public int compare(T a, T b) {
-        return forwardOrder.compare(a, b);
+        return forwardOrder.compare(b, a);
     }
 
+    // Override the min/max methods to "hoist" delegation outside loops
+
     @Override
     public <E extends T> E min(Iterator<E> iterator) {
-        // TODO Auto-generated method stub
-        return forwardOrder.min(iterator);
+        return forwardOrder.max(iterator);
     }
 
     @Override
     public <E extends T> E min(Iterable<E> iterable) {
-        // TODO Auto-generated method stub
-        return forwardOrder.min(iterable);
+        return forwardOrder.max(iterable);
     }
 
     @Override
     public <E extends T> E min(E a, E b) {
-        // TODO Auto-generated method stub
-        return forwardOrder.min(a, b);
+        return forwardOrder.max(a, b);
     }
 
     @Override
     public <E extends T> E min(E a, E b, E c, E... rest) {
-        // TODO Auto-generated method stub
-        return forwardOrder.min(a, b, c, rest);
+        return forwardOrder.max(a, b, c, rest);
     }
 
     @Override
     public <E extends T> E max(Iterator<E> iterator) {
-        // TODO Auto-generated method stub
-        return forwardOrder.max(iterator);
+        return forwardOrder.min(iterator);
     }
 
     @Override
     public <E extends T> E max(Iterable<E> iterable) {
-        // TODO Auto-generated method stub
-        return forwardOrder.max(iterable);
+        return forwardOrder.min(iterable);
     }
 
     @Override
     public <E extends T> E max(E a, E b) {
-        // TODO Auto-generated method stub
-        return forwardOrder.max(a, b);
+        return forwardOrder.min(a, b);
     }
 
     @Override
     public <E extends T> E max(E a, E b, E c, E... rest) {
-        // TODO Auto-generated method stub
-        return forwardOrder.max(a, b, c, rest);
+        return forwardOrder.min(a, b, c, rest);
     }
 
     @Override
@@ -0,0 +1,249 @@
+/*
+ * Copyright (C) 2026 The guava_learn Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.common.collect;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.util.Comparator;
+import java.util.List;
+import javax.annotation.Nullable;
+
+/**
+ * An immutable sorted list laid out for fast repeated searches, relative to the comparator it was
+ * sorted by. See {@link Ordering#sortedIndex}.
+ *
+ * <p>A binary search of a large sorted array touches a different cache line at almost every
+ * probe, and the probes of consecutive levels are far apart. Here the elements are also kept in
+ * <i>Eytzinger order</i>: the order of a breadth-first walk of the implicit balanced search tree,
+ * where the children of position {@code k} are at {@code 2k} and {@code 2k + 1}. The first levels
+ * of the tree share a few cache lines, and the four levels below any position lie in 16
+ * consecutive slots, so the hardware prefetcher can keep ahead of a search. Each search is a
+ * fixed-length descent whose only data-dependent step is an index update, with no early exit.
+ *
+ * <p>If the comparator is one of {@link Ordering#onResultOfInt}, {@link Ordering#onResultOfLong}
+ * or {@link Ordering#onResultOfDouble}, the keys are also extracted once into a {@code long[]} in
+ * the same order, and searches compare primitive keys without touching the elements at all.
+ *
+ * <p>{@link #lowerBounds} searches for many keys at once, interleaving their descents level by
+ * level so that the memory accesses of independent searches overlap.
+ */
+public final class SortedIndex<E> {
+  /** How many searches {@link #lowerBounds} interleaves. */
+  private static final int BATCH_SIZE = 16;
+
+  /**
+   * Returns an index over {@code sortedList}, which must already be sorted by {@code comparator}.
+   *
+   * @throws IllegalArgumentException if {@code sortedList} is not sorted by {@code comparator}
+   */
+  public static <E> SortedIndex<E> create(
+      Comparator<? super E> comparator, ImmutableList<E> sortedList) {
+    checkNotNull(comparator);
+    for (int i = 1; i < sortedList.size(); i++) {
+      checkArgument(
+          comparator.compare(sortedList.get(i - 1), sortedList.get(i)) <= 0,
+          "sortedList is not sorted at index %s",
+          i);
+    }
+    return new SortedIndex<E>(comparator, sortedList);
+  }
+
+  private final Comparator<? super E> comparator;
+  private final ImmutableList<E> list;
+
+  /** The elements in Eytzinger order, from position 1; tree[0] is unused. */
+  private final Object[] tree;
+
+  /** The index in the sorted list of the element at each position of the tree. */
+  private final int[] ranks;
+
+  /** The primitive key of each element of the tree, or null if the comparator has none. */
+  @Nullable private final long[] keys;
+
+  @Nullable private final PrimitiveKeyOrdering<Object> keyOrdering;
+
+  @SuppressWarnings("unchecked") // a PrimitiveKeyOrdering<? super E> accepts any E
+  private SortedIndex(Comparator<? super E> comparator, ImmutableList<E> list) {
+    this.comparator = comparator;
+    this.list = list;
+    int n = list.size();
+    this.tree = new Object[n + 1];
+    this.ranks = new int[n + 1];
+    fill(1, 0);
+    if (comparator instanceof PrimitiveKeyOrdering) {
+      keyOrdering = (PrimitiveKeyOrdering<Object>) comparator;
+      keys = new long[n + 1];
+      for (int k = 1; k <= n; k++) {
+        keys[k] = keyOrdering.sortableKey(tree[k]);
+      }
+    } else {
+      keyOrdering = null;
+      keys = null;
+    }
+  }
+
+  /**
+   * Fills the subtree rooted at position k with the list elements from index next on, in order,
+   * and returns the index following the last one used.
+   */
+  private int fill(int k, int next) {
+    if (k < tree.length) {
+      next = fill(2 * k, next);
+      tree[k] = list.get(next);
+      ranks[k] = next++;
+      next = fill(2 * k + 1, next);
+    }
+    return next;
+  }
+
+  /** Returns the number of elements in this index. */
+  public int size() {
+    return list.size();
+  }
+
+  /** Returns the elements of this index, in sorted order. */
+  public ImmutableList<E> asList() {
+    return list;
+  }
+
+  /**
+   * Returns the index in {@link #asList} of the first element that is not less than {@code key},
+   * or {@link #size} if there is none.
+   */
+  public int lowerBound(@Nullable E key) {
+    return search(key, false);
+  }
+
+  /**
+   * Returns the index in {@link #asList} of the first element that is greater than {@code key},
+   * or {@link #size} if there is none.
+   */
+  public int upperBound(@Nullable E key) {
+    return search(key, true);
+  }
+
+  /**
+   * Searches for {@code key} as {@link Ordering#binarySearch} does: returns the index of an element
+   * equivalent to it, if any, and otherwise {@code (-(insertion point) - 1)}.
+   */
+  public int binarySearch(@Nullable E key) {
+    int index = lowerBound(key);
+    return (index < list.size() && comparator.compare(list.get(index), key) == 0)
+        ? index
+        : -index - 1;
+  }
+
+  /**
+   * Returns the elements that are not less than {@code lower} and less than {@code upper}, in
+   * sorted order. This is empty if {@code upper} is not greater than {@code lower}.
+   */
+  public ImmutableList<E> range(@Nullable E lower, @Nullable E upper) {
+    int from = lowerBound(lower);
+    int to = Math.max(from, lowerBound(upper));
+    return list.subList(from, to);
+  }
+
+  /** Returns the elements that are equivalent to {@code key}, in sorted order. */
+  public ImmutableList<E> equalRange(@Nullable E key) {
+    return list.subList(lowerBound(key), upperBound(key));
+  }
+
+  /**
+   * Returns the {@link #lowerBound} of each of {@code queries}, which need not be sorted. The
+   * searches proceed in interleaved groups, so this is faster than searching for each in turn.
+   */
+  @SuppressWarnings("unchecked") // queries holds only Es
+  public int[] lowerBounds(List<? extends E> queries) {
+    Object[] array = queries.toArray();
+    int[] results = new int[array.length];
+    int[] positions = new int[BATCH_SIZE];
+    long[] primitiveKeys = new long[BATCH_SIZE];
+    int n = tree.length - 1;
+    for (int start = 0; start < results.length; start += BATCH_SIZE) {
+      int count = Math.min(BATCH_SIZE, results.length - start);
+      for (int j = 0; j < count; j++) {
+        positions[j] = 1;
+        if (keyOrdering != null) {
+          primitiveKeys[j] = keyOrdering.sortableKey(array[start + j]);
+        }
+      }
+      // every descent takes the same number of steps, give or take the last level
+      for (boolean active = n > 0; active; ) {
+        active = false;
+        for (int j = 0; j < count; j++) {
+          int k = positions[j];
+          if (k <= n) {
+            boolean goRight = (keys != null)
+                ? keys[k] < primitiveKeys[j]
+                : compare(k, (E) array[start + j]) < 0;
+            positions[j] = 2 * k + (goRight ? 1 : 0);
+            active = true;
+          }
+        }
+      }
+      for (int j = 0; j < count; j++) {
+        results[start + j] = rankOf(positions[j]);
+      }
+    }
+    return results;
+  }
+
+  /**
+   * Descends the tree, going right from each position whose element is less than {@code key}, or
+   * also from those equivalent to it if {@code orEqual}, and returns the rank of the last element
+   * from which the descent went left.
+   */
+  private int search(@Nullable E key, boolean orEqual) {
+    int n = tree.length - 1;
+    int k = 1;
+    if (keys != null) {
+      long target = keyOrdering.sortableKey(key);
+      while (k <= n) {
+        long candidate = keys[k];
+        k = 2 * k + ((candidate < target | (orEqual & candidate == target)) ? 1 : 0);
+      }
+    } else {
+      int limit = orEqual ? 1 : 0;
+      while (k <= n) {
+        k = 2 * k + ((compare(k, key) < limit) ? 1 : 0);
+      }
+    }
+    return rankOf(k);
+  }
+
+  @SuppressWarnings("unchecked") // only Es are ever stored
+  private int compare(int k, @Nullable E key) {
+    return comparator.compare((E) tree[k], key);
+  }
+
+  /**
+   * Given the position just past the leaf where a descent ended, returns the rank of the last
+   * element from which it went left, or the size if it always went right. Going left appends a 0
+   * bit to the position, so that element's position is k with its trailing 1 bits and the 0 bit
+   * before them removed.
+   */
+  private int rankOf(int k) {
+    k >>>= Integer.numberOfTrailingZeros(~k) + 1;
+    return (k == 0) ? list.size() : ranks[k];
+  }
+
+  @Override
+  public String toString() {
+    return list.toString();
+  }
+}
@@ -21,12 +21,17 @@ import static com.google.common.base.Preconditions.checkNotNull;
 
 import com.google.common.annotations.GwtCompatible;
 import com.google.common.math.IntMath;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 import java.math.RoundingMode;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Spliterator;
 import java.util.stream.Stream;
 import javax.annotation.Nullable;
 
@@ -51,7 +56,8 @@ import javax.annotation.Nullable;
  *
  * @author Louis Wasserman
  */
-@GwtCompatible final class TopKSelector<T> {
+@GwtCompatible
+public final class TopKSelector<T> {
 
   /**
    * Returns a {@code TopKSelector} that collects the lowest {@code k} elements added to it,
@@ -163,7 +169,7 @@ import javax.annotation.Nullable;
     while (left < right) {
       int pivotIndex = (left + right + 1) >>> 1;
 
-      int pivotNewIndex = partition(left, right, pivotIndex);
+      int pivotNewIndex = Quickselect.partition(buffer, left, right, pivotIndex, comparator);
 
       if (pivotNewIndex > k) {
         right = pivotNewIndex - 1;
@@ -191,31 +197,26 @@ import javax.annotation.Nullable;
   }
 
   /**
-   * Partitions the contents of buffer in the range [left, right] around the pivot element
-   * previously stored in buffer[pivotValue]. Returns the new index of the pivot element,
-   * pivotNewIndex, so that everything in [left, pivotNewIndex] is ≤ pivotValue and everything in
-   * (pivotNewIndex, right] is greater than pivotValue.
+   * Returns true if at least {@code k} candidates are retained, in which case {@link #threshold()}
+   * is an upper bound on the {@code k} lowest elements offered so far.
    */
-  private int partition(int left, int right, int pivotIndex) {
-    T pivotValue = buffer[pivotIndex];
-    buffer[pivotIndex] = buffer[right];
-
-    int pivotNewIndex = left;
-    for (int i = left; i < right; i++) {
-      if (comparator.compare(buffer[i], pivotValue) < 0) {
-        swap(pivotNewIndex, i);
-        pivotNewIndex++;
-      }
-    }
-    buffer[right] = buffer[pivotNewIndex];
-    buffer[pivotNewIndex] = pivotValue;
-    return pivotNewIndex;
+  boolean isFull() {
+    return k > 0 && bufferSize >= k;
   }
 
-  private void swap(int i, int j) {
-    T tmp = buffer[i];
-    buffer[i] = buffer[j];
-    buffer[j] = tmp;
+  /**
+   * Returns the current threshold. Only meaningful if {@link #isFull()}; any element not less than
+   * it would be ignored by {@link #offer}.
+   */
+  T threshold() {
+    return threshold;
+  }
+
+  /** Discards every candidate offered so far, so that this selector can be reused. */
+  void clear() {
+    Arrays.fill(buffer, 0, bufferSize, null);
+    bufferSize = 0;
+    threshold = null;
   }
 
   TopKSelector<T> combine(TopKSelector<T> other) {
@@ -225,6 +226,99 @@ import javax.annotation.Nullable;
     return this;
   }
 
+  /**
+   * Adds every candidate retained by {@code other} to this {@code TopKSelector}, so that afterwards
+   * this selector holds the top {@code k} of everything offered to either. {@code other} is not
+   * modified. This operation takes O(k) amortized time.
+   *
+   * <p>Both selectors must have been created with equivalent comparators, which is not checked,
+   * and the same {@code k}.
+   *
+   * @throws IllegalArgumentException if {@code other} was created with a different {@code k}
+   */
+  public void merge(TopKSelector<T> other) {
+    checkNotNull(other);
+    checkArgument(
+        other.k == k, "cannot merge a selector with k = %s into one with k = %s", other.k, k);
+    combine(other);
+  }
+
+  private static final int SERIALIZED_MAGIC = 0x546f704b; // "TopK"
+  /*
+   * Version 1 also recorded the comparator's toString(), which is not stable across JVMs for
+   * lambdas and method references.
+   */
+  private static final byte SERIALIZED_VERSION = 2;
+
+  /**
+   * Writes the state of this {@code TopKSelector} to {@code out} in a compact binary form, using
+   * {@code codec} to encode each element, so that it can be combined with another selector via
+   * {@link #mergeFrom} in a different process. At most {@code k} elements are written; this
+   * operation takes O(k log k) time.
+   *
+   * <p>The form records {@code k}, but not the comparator, which in general has no identity that
+   * survives the trip to another JVM. As with {@link #merge}, the selector that reads the state
+   * must use an equivalent comparator; this is not checked.
+   */
+  public void writeTo(DataOutput out, ElementCodec<? super T> codec) throws IOException {
+    checkNotNull(out);
+    checkNotNull(codec);
+    sortAndTruncate();
+    out.writeInt(SERIALIZED_MAGIC);
+    out.writeByte(SERIALIZED_VERSION);
+    out.writeInt(k);
+    out.writeInt(bufferSize);
+    for (int i = 0; i < bufferSize; i++) {
+      byte[] bytes = codec.encode(buffer[i]);
+      out.writeInt(bytes.length);
+      out.write(bytes);
+    }
+  }
+
+  /**
+   * Reads a selector state written by {@link #writeTo} from {@code in}, decoding each element with
+   * {@code codec}, and offers its elements to this {@code TopKSelector}. Afterwards this selector
+   * holds the top {@code k} of everything offered to it or to the selector that was written. This
+   * operation takes O(k) amortized time plus the cost of decoding.
+   *
+   * <p>The selector that wrote the state must have used a comparator equivalent to this one's; this
+   * is not checked.
+   *
+   * @throws IllegalArgumentException if the state was written by a selector with a different
+   *     {@code k}
+   * @throws IOException if {@code in} does not contain a valid selector state, or cannot be read
+   */
+  public void mergeFrom(DataInput in, ElementCodec<? extends T> codec) throws IOException {
+    checkNotNull(in);
+    checkNotNull(codec);
+    if (in.readInt() != SERIALIZED_MAGIC) {
+      throw new IOException("not a serialized TopKSelector");
+    }
+    byte version = in.readByte();
+    if (version != SERIALIZED_VERSION) {
+      throw new IOException("unsupported TopKSelector serialization version: " + version);
+    }
+    int otherK = in.readInt();
+    checkArgument(
+        otherK == k, "cannot merge a selector with k = %s into one with k = %s", otherK, k);
+    int size = in.readInt();
+    if (size < 0 || size > k) {
+      throw new IOException("corrupt TopKSelector: " + size + " elements for k = " + k);
+    }
+    byte[] bytes = new byte[0];
+    for (int i = 0; i < size; i++) {
+      int length = in.readInt();
+      if (length < 0) {
+        throw new IOException("corrupt TopKSelector: negative element length " + length);
+      }
+      if (bytes.length < length) {
+        bytes = new byte[length];
+      }
+      in.readFully(bytes, 0, length);
+      offer(codec.decode(ByteBuffer.wrap(bytes, 0, length)));
+    }
+  }
+
   /**
    * Adds each member of {@code elements} as a candidate for the top {@code k} elements. This
    * operation takes amortized linear time in the length of {@code elements}.
@@ -261,13 +355,46 @@ import javax.annotation.Nullable;
    * this {@code TopKSelector}. This method returns in O(k log k) time.
    */
   public List<T> topK() {
+    sortAndTruncate();
+    // we have to support null elements, so no ImmutableList for us
+    return Collections.unmodifiableList(Arrays.asList(Arrays.copyOf(buffer, bufferSize)));
+  }
+
+  /**
+   * Sorts the candidates and discards all but the first {@code k}, leaving [0, bufferSize) sorted.
+   */
+  private void sortAndTruncate() {
     Arrays.sort(buffer, 0, bufferSize, comparator);
     if (bufferSize > k) {
       Arrays.fill(buffer, k, buffer.length, null);
       bufferSize = k;
       threshold = buffer[k - 1];
     }
-    // we have to support null elements, so no ImmutableList for us
-    return Collections.unmodifiableList(Arrays.asList(Arrays.copyOf(buffer, bufferSize)));
+  }
+
+  /**
+   * Returns an iterator over the top {@code k} elements offered to this {@code TopKSelector}, or
+   * all elements if fewer than {@code k} have been offered, in the order specified by the factory
+   * used to create this {@code TopKSelector}.
+   *
+   * <p>Unlike {@link #topK}, the elements are not sorted up front: each call to {@code next()}
+   * sorts just far enough to find the next element, so retrieving the first {@code m} of them takes
+   * expected O(k + m log m) time. This suits callers that usually consume only a prefix, such as a
+   * first page of results.
+   *
+   * <p>The iterator works on a copy of the candidates and will not be affected by further changes
+   * to this {@code TopKSelector}. It does not support {@code remove()}.
+   */
+  public Iterator<T> topKIterator() {
+    return new IncrementalSortIterator<T>(Arrays.copyOf(buffer, bufferSize), comparator, k);
+  }
+
+  /**
+   * Returns an ordered, sized {@link Spliterator} over the same elements as {@link
+   * #topKIterator}, with the same lazy sorting behavior.
+   */
+  public Spliterator<T> topKSpliterator() {
+    return new IncrementalSortIterator<T>(Arrays.copyOf(buffer, bufferSize), comparator, k)
+        .spliterator();
   }
 }
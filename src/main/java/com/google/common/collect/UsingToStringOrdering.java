@@ -16,7 +16,14 @@
 
 package com.google.common.collect;
 
+import static com.google.common.collect.CollectPreconditions.checkNonnegative;
+import static com.google.common.collect.ObjectArrays.checkElementsNotNull;
+
 import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
 
 final class UsingToStringOrdering extends Ordering<Object>implements Serializable {
 
@@ -31,6 +38,91 @@ final class UsingToStringOrdering extends Ordering<Object>implements Serializabl
         // TODO Auto-generated method stub
         return left.toString().compareTo(right.toString());
     }
+
+    /*
+     * Sorting n elements would call toString about 2 n log n times. Above
+     * ByFunctionOrdering.KEY_CACHING_THRESHOLD elements, the methods below
+     * call it once per element, and sort indexes into the resulting strings.
+     */
+
+    @Override
+    public <E> List<E> sortedCopy(Iterable<E> elements) {
+        @SuppressWarnings("unchecked") // only Es are ever stored
+        E[] array = (E[]) Iterables.toArray(elements);
+        sort(array);
+        return Lists.newArrayList(Arrays.asList(array));
+    }
+
+    @Override
+    public <E> ImmutableList<E> immutableSortedCopy(Iterable<E> elements) {
+        @SuppressWarnings("unchecked") // only Es are ever stored
+        E[] array = (E[]) Iterables.toArray(elements);
+        checkElementsNotNull(array);
+        sort(array);
+        return ImmutableList.asImmutableList(array);
+    }
+
+    @Override
+    public <E> List<E> leastOf(Iterable<E> iterable, int k) {
+        checkNonnegative(k, "k");
+        if (!(iterable instanceof Collection)
+                || ((Collection<E>) iterable).size() < ByFunctionOrdering.KEY_CACHING_THRESHOLD) {
+            return super.leastOf(iterable, k);
+        }
+        // holds at most 2k strings at a time, rather than one per element
+        KeyedTopKSelector.ByObject<String, E> selector =
+                KeyedTopKSelector.least(k, Comparator.<String>naturalOrder());
+        for (E element : iterable) {
+            selector.offer(element.toString(), element);
+        }
+        return selector.topK();
+    }
+
+    /** Stably sorts array, calling toString once per element if that is worthwhile. */
+    private void sort(Object[] array) {
+        if (array.length < ByFunctionOrdering.KEY_CACHING_THRESHOLD) {
+            Arrays.sort(array, this);
+            return;
+        }
+        int[] permutation =
+                PermutationSort.sortedPermutation(array.length, new StringKeys(array));
+        PermutationSort.apply(array, permutation);
+    }
+
+    /**
+     * The string of each element, and a prefix of it packed into a long, in
+     * which each of the first four chars takes 16 bits and missing chars are
+     * zero. Since {@link String#compareTo} compares chars as unsigned values
+     * from the start, unequal prefixes order their strings the same way as
+     * their unsigned values, and most comparisons never touch the strings.
+     */
+    private static final class StringKeys implements PermutationSort.IndexComparator {
+        final String[] strings;
+        final long[] prefixes;
+
+        StringKeys(Object[] array) {
+            strings = new String[array.length];
+            prefixes = new long[array.length];
+            for (int i = 0; i < array.length; i++) {
+                String string = array[i].toString();
+                long prefix = 0;
+                for (int j = 0; j < 4; j++) {
+                    prefix = (prefix << 16) | ((j < string.length()) ? string.charAt(j) : 0);
+                }
+                strings[i] = string;
+                prefixes[i] = prefix;
+            }
+        }
+
+        @Override
+        public int compare(int left, int right) {
+            long leftPrefix = prefixes[left];
+            long rightPrefix = prefixes[right];
+            return (leftPrefix != rightPrefix)
+                    ? Long.compareUnsigned(leftPrefix, rightPrefix)
+                    : strings[left].compareTo(strings[right]);
+        }
+    }
     
     @Override
     public String toString(){
@@ -0,0 +1,240 @@
+/*
+ * Copyright (C) 2026 The guava_learn Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.common.collect;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+
+import com.google.common.annotations.GwtCompatible;
+import java.util.Comparator;
+import java.util.List;
+import javax.annotation.Nullable;
+
+/**
+ * An accumulator that selects the "top" {@code k} elements among those offered within a moving
+ * window, relative to a provided comparator. The window is measured either in elements (the most
+ * recent offers) or in time (a timestamp supplied with each offer, in any unit the caller likes).
+ *
+ * <p>The window is divided into a fixed number of buckets, each backed by its own {@link
+ * TopKSelector}. When the window moves past a bucket, that bucket is cleared and reused, so expired
+ * elements are evicted a bucket at a time. A query merges the live buckets with {@link
+ * TopKSelector#combine}, taking O(buckets · k) time regardless of how many elements the window
+ * contains. Memory is O(buckets · k).
+ *
+ * <p>A window with a single bucket is <i>tumbling</i>: it is emptied each time it fills up (or its
+ * time span elapses). With more buckets the window <i>slides</i> with a granularity of one bucket:
+ *
+ * <ul>
+ *   <li>A count-based window of size {@code n} with {@code b} buckets covers the current,
+ *       partially filled bucket and the {@code b - 1} full buckets before it, that is, between
+ *       {@code n - n/b + 1} and {@code n} of the most recent elements (or all of them, if fewer
+ *       than that have been offered).
+ *   <li>A time-based window of length {@code t} with {@code b} buckets covers the elements whose
+ *       timestamps fall in the {@code b} buckets of width {@code t/b} ending with the bucket that
+ *       contains the query time: at least the last {@code t - t/b} time units before it.
+ * </ul>
+ *
+ * <p>The window size must be a multiple of the number of buckets, so that the buckets tile it
+ * exactly.
+ *
+ * <p>Timestamps do not need to arrive in order; an element older than the window at the time it is
+ * offered is ignored. This class is not thread-safe.
+ */
+@GwtCompatible
+final class WindowedTopKSelector<T> {
+
+  /**
+   * Returns a {@code WindowedTopKSelector} that collects the lowest {@code k} of the most recent
+   * {@code windowSize} elements offered to it, relative to the specified comparator, and returns
+   * them via {@link #topK()} in ascending order.
+   *
+   * @throws IllegalArgumentException if {@code k < 0}, if {@code windowSize} is not positive, or
+   *     if {@code buckets} is not positive or does not divide {@code windowSize}
+   */
+  public static <T> WindowedTopKSelector<T> leastOverCount(
+      int k, Comparator<? super T> comparator, long windowSize, int buckets) {
+    return new WindowedTopKSelector<T>(comparator, k, true, windowSize, buckets);
+  }
+
+  /**
+   * Returns a {@code WindowedTopKSelector} that collects the greatest {@code k} of the most recent
+   * {@code windowSize} elements offered to it, relative to the specified comparator, and returns
+   * them via {@link #topK()} in descending order.
+   *
+   * @throws IllegalArgumentException if {@code k < 0}, if {@code windowSize} is not positive, or
+   *     if {@code buckets} is not positive or does not divide {@code windowSize}
+   */
+  public static <T> WindowedTopKSelector<T> greatestOverCount(
+      int k, Comparator<? super T> comparator, long windowSize, int buckets) {
+    return new WindowedTopKSelector<T>(
+        Ordering.from(comparator).reverse(), k, true, windowSize, buckets);
+  }
+
+  /**
+   * Returns a {@code WindowedTopKSelector} that collects the lowest {@code k} elements offered with
+   * a timestamp in the last {@code windowLength} time units, relative to the specified comparator,
+   * and returns them via {@link #topK(long)} in ascending order.
+   *
+   * @throws IllegalArgumentException if {@code k < 0}, if {@code windowLength} is not positive, or
+   *     if {@code buckets} is not positive or does not divide {@code windowLength}
+   */
+  public static <T> WindowedTopKSelector<T> leastOverTime(
+      int k, Comparator<? super T> comparator, long windowLength, int buckets) {
+    return new WindowedTopKSelector<T>(comparator, k, false, windowLength, buckets);
+  }
+
+  /**
+   * Returns a {@code WindowedTopKSelector} that collects the greatest {@code k} elements offered
+   * with a timestamp in the last {@code windowLength} time units, relative to the specified
+   * comparator, and returns them via {@link #topK(long)} in descending order.
+   *
+   * @throws IllegalArgumentException if {@code k < 0}, if {@code windowLength} is not positive, or
+   *     if {@code buckets} is not positive or does not divide {@code windowLength}
+   */
+  public static <T> WindowedTopKSelector<T> greatestOverTime(
+      int k, Comparator<? super T> comparator, long windowLength, int buckets) {
+    return new WindowedTopKSelector<T>(
+        Ordering.from(comparator).reverse(), k, false, windowLength, buckets);
+  }
+
+  private final int k;
+  private final Comparator<? super T> comparator;
+  private final boolean countBased;
+
+  /** The number of elements, or the span of time, covered by each bucket. */
+  private final long bucketWidth;
+
+  /*
+   * Bucket number n (the n-th bucket since the epoch, or since the first offer for count-based
+   * windows) lives in slot n % selectors.length. epochs[slot] records which bucket number the slot
+   * currently holds, so that a slot left over from an expired bucket can be recognized and cleared.
+   */
+  private final TopKSelector<T>[] selectors;
+  private final long[] epochs;
+
+  /** The highest bucket number seen so far. */
+  private long latestEpoch = Long.MIN_VALUE;
+
+  /** For count-based windows, the number of elements offered so far. */
+  private long count;
+
+  @SuppressWarnings("unchecked") // generic array creation
+  private WindowedTopKSelector(
+      Comparator<? super T> comparator, int k, boolean countBased, long window, int buckets) {
+    this.comparator = checkNotNull(comparator, "comparator");
+    checkArgument(k >= 0, "k must be nonnegative, was %s", k);
+    checkArgument(window > 0, "window must be positive, was %s", window);
+    checkArgument(buckets > 0, "buckets must be positive, was %s", buckets);
+    checkArgument(
+        window % buckets == 0,
+        "window (%s) must be a multiple of the number of buckets (%s)",
+        window,
+        buckets);
+    this.k = k;
+    this.countBased = countBased;
+    this.bucketWidth = window / buckets;
+    this.selectors = new TopKSelector[buckets];
+    this.epochs = new long[buckets];
+    for (int i = 0; i < buckets; i++) {
+      selectors[i] = TopKSelector.least(k, comparator);
+      epochs[i] = Long.MIN_VALUE;
+    }
+  }
+
+  /**
+   * Adds {@code elem} to a count-based window as a candidate for the top {@code k} elements. This
+   * operation takes amortized O(1) time.
+   *
+   * @throws IllegalStateException if this is a time-based window
+   */
+  public void offer(@Nullable T elem) {
+    checkState(countBased, "time-based windows require a timestamp");
+    offerToBucket(elem, count++ / bucketWidth);
+  }
+
+  /**
+   * Adds {@code elem}, which occurred at {@code timestamp}, to a time-based window as a candidate
+   * for the top {@code k} elements. This operation takes amortized O(1) time.
+   *
+   * @throws IllegalStateException if this is a count-based window
+   */
+  public void offer(@Nullable T elem, long timestamp) {
+    checkState(!countBased, "count-based windows do not accept timestamps");
+    offerToBucket(elem, Math.floorDiv(timestamp, bucketWidth));
+  }
+
+  private void offerToBucket(@Nullable T elem, long epoch) {
+    if (epoch > latestEpoch) {
+      latestEpoch = epoch;
+    } else if (epoch <= latestEpoch - selectors.length) {
+      return; // already expired
+    }
+    int slot = slot(epoch);
+    if (epochs[slot] != epoch) {
+      selectors[slot].clear();
+      epochs[slot] = epoch;
+    }
+    selectors[slot].offer(elem);
+  }
+
+  private int slot(long epoch) {
+    return (int) Math.floorMod(epoch, (long) selectors.length);
+  }
+
+  /**
+   * Returns the top {@code k} of the elements in the current count-based window, or all of them if
+   * there are fewer than {@code k}, in the order specified by the factory used to create this
+   * {@code WindowedTopKSelector}. This takes O(buckets · k + k log k) time.
+   *
+   * <p>The returned list is an unmodifiable copy and will not be affected by further changes to
+   * this {@code WindowedTopKSelector}.
+   *
+   * @throws IllegalStateException if this is a time-based window
+   */
+  public List<T> topK() {
+    checkState(countBased, "time-based windows require a query time");
+    return merge(latestEpoch);
+  }
+
+  /**
+   * Returns the top {@code k} of the elements whose timestamps fall in the window ending at {@code
+   * now}, or all of them if there are fewer than {@code k}, in the order specified by the factory
+   * used to create this {@code WindowedTopKSelector}. This takes O(buckets · k + k log k) time.
+   *
+   * <p>The returned list is an unmodifiable copy and will not be affected by further changes to
+   * this {@code WindowedTopKSelector}.
+   *
+   * @throws IllegalStateException if this is a count-based window
+   */
+  public List<T> topK(long now) {
+    checkState(!countBased, "count-based windows do not accept a query time");
+    return merge(Math.floorDiv(now, bucketWidth));
+  }
+
+  private List<T> merge(long currentEpoch) {
+    TopKSelector<T> result = TopKSelector.least(k, comparator);
+    for (int slot = 0; slot < selectors.length; slot++) {
+      long epoch = epochs[slot];
+      boolean live = epoch <= currentEpoch && epoch > currentEpoch - selectors.length;
+      if (epoch != Long.MIN_VALUE && live) {
+        result.combine(selectors[slot]);
+      }
+    }
+    return result.topK();
+  }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright (C) 2026 The guava_learn Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.common.collect;
+
+import com.google.common.base.Function;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import junit.framework.TestCase;
+
+/** Tests for {@link ByFunctionOrdering}. */
+public class ByFunctionOrderingTest extends TestCase {
+  private static final Ordering<Integer> NUMERICAL =
+      Ordering.from(Comparator.<Integer>naturalOrder());
+
+  private static final Function<Integer, Integer> BY_TENS = x -> x / 10;
+
+  public void testCompare() {
+    Ordering<Integer> ordering = NUMERICAL.onResultOf(BY_TENS);
+    assertTrue(ordering.compare(19, 20) < 0);
+    assertTrue(ordering.compare(31, 29) > 0);
+    assertEquals(0, ordering.compare(21, 29));
+  }
+
+  public void testEqualsAndHashCode() {
+    Ordering<Integer> ordering = NUMERICAL.onResultOf(BY_TENS);
+    Ordering<Integer> same = NUMERICAL.onResultOf(BY_TENS);
+    assertEquals(ordering, same);
+    assertEquals(ordering.hashCode(), same.hashCode());
+    assertFalse(ordering.equals(NUMERICAL.reverse().onResultOf(BY_TENS)));
+  }
+
+  public void testSortedCopyIsStable() {
+    List<Integer> values = randomInts(new Random(0), 1000, 10000);
+    for (Ordering<Integer> keys : Arrays.asList(NUMERICAL, Ordering.<Integer>natural())) {
+      Ordering<Integer> ordering = keys.onResultOf(BY_TENS);
+      List<Integer> expected = new ArrayList<Integer>(values);
+      Collections.sort(expected, (a, b) -> Integer.compare(a / 10, b / 10));
+      assertEquals(expected, ordering.sortedCopy(values));
+      assertEquals(expected, ordering.immutableSortedCopy(values));
+    }
+  }
+
+  public void testSortedCopyAppliesFunctionOncePerElement() {
+    AtomicInteger calls = new AtomicInteger();
+    Ordering<Integer> ordering = NUMERICAL.onResultOf(x -> {
+      calls.incrementAndGet();
+      return -x;
+    });
+    List<Integer> values = randomInts(new Random(1), 500, 1000);
+    ordering.sortedCopy(values);
+    assertEquals(values.size(), calls.get());
+  }
+
+  public void testLeastOf() {
+    Ordering<Integer> ordering = NUMERICAL.onResultOf(BY_TENS);
+    List<Integer> values = randomInts(new Random(2), 1000, 10000);
+    List<Integer> sorted = ordering.sortedCopy(values);
+    for (int k : new int[] {0, 1, 10, 999, 1000, 2000}) {
+      assertEquals(sorted.subList(0, Math.min(k, sorted.size())), ordering.leastOf(values, k));
+    }
+    assertEquals(Arrays.asList(3, 12), ordering.leastOf(Arrays.asList(12, 3, 45), 2));
+  }
+
+  private static List<Integer> randomInts(Random random, int size, int bound) {
+    List<Integer> result = new ArrayList<Integer>(size);
+    for (int i = 0; i < size; i++) {
+      result.add(random.nextInt(bound));
+    }
+    return result;
+  }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright (C) 2026 The guava_learn Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.common.collect;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import junit.framework.TestCase;
+
+/** Tests for {@link CompiledOrdering}. */
+public class CompiledOrderingTest extends TestCase {
+  private static final Ordering<Integer> NUMERICAL =
+      Ordering.from(Comparator.<Integer>naturalOrder());
+
+  public void testMatchesSource() {
+    Ordering<Integer> byTens = NUMERICAL.onResultOf(x -> x / 10);
+    Ordering<Integer> byOnes = NUMERICAL.onResultOf(x -> x % 10);
+    List<Ordering<Integer>> orderings = new ArrayList<Ordering<Integer>>();
+    orderings.add(NUMERICAL.nullsFirst());
+    orderings.add(NUMERICAL.nullsLast().reverse());
+    orderings.add(NUMERICAL.reverse().nullsFirst());
+    orderings.add(byTens.compound(byOnes.reverse()).nullsLast());
+    orderings.add(byTens.compound(byOnes).reverse().nullsFirst().reverse());
+    orderings.add(byOnes.compound(byTens).onResultOf((Integer x) -> x * 7).nullsFirst());
+    orderings.add(NUMERICAL.nullsFirst().onResultOf((Integer x) -> (x == null || x % 3 == 0)
+        ? null : x).nullsLast());
+    orderings.add(Ordering.allEqual().nullsFirst().<Integer>compound(NUMERICAL).nullsLast());
+    Random random = new Random(0);
+    for (Ordering<Integer> ordering : orderings) {
+      Ordering<Integer> compiled = CompiledOrdering.compile(ordering);
+      for (int i = 0; i < 1000; i++) {
+        Integer left = random.nextInt(8) == 0 ? null : random.nextInt(100);
+        Integer right = random.nextInt(8) == 0 ? null : random.nextInt(100);
+        assertEquals(
+            ordering + " on " + left + ", " + right,
+            Integer.signum(ordering.compare(left, right)),
+            Integer.signum(compiled.compare(left, right)));
+      }
+    }
+  }
+
+  public void testSharedFunctionAppliedOncePerValue() {
+    AtomicInteger calls = new AtomicInteger();
+    Ordering<Integer> byTens = NUMERICAL.onResultOf(x -> x / 10);
+    Ordering<Integer> byOnes = NUMERICAL.onResultOf(x -> x % 10);
+    Ordering<Integer> ordering = CompiledOrdering.compile(
+        byTens.compound(byOnes).onResultOf((Integer x) -> {
+          calls.incrementAndGet();
+          return x + 1;
+        }));
+    assertTrue(ordering.compare(12, 13) < 0);
+    assertEquals(2, calls.get());
+  }
+
+  public void testCompileIsIdempotent() {
+    Ordering<Integer> compiled = CompiledOrdering.compile(NUMERICAL.reverse().nullsFirst());
+    assertSame(compiled, CompiledOrdering.compile(compiled));
+    assertEquals(compiled, CompiledOrdering.compile(NUMERICAL.reverse().nullsFirst()));
+  }
+
+  public void testSortedCopy() {
+    Ordering<Integer> ordering = CompiledOrdering.compile(NUMERICAL.reverse().nullsLast());
+    assertEquals(
+        Arrays.asList(9, 5, 1, null),
+        ordering.sortedCopy(Arrays.asList(5, null, 1, 9)));
+  }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright (C) 2026 The guava_learn Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.common.collect;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import junit.framework.TestCase;
+
+/** Tests for {@link ConcurrentTopKSelector}. */
+public class ConcurrentTopKSelectorTest extends TestCase {
+  private static final Comparator<Integer> NATURAL = Comparator.naturalOrder();
+
+  public void testLeastAndGreatest() {
+    ConcurrentTopKSelector<Integer> least = ConcurrentTopKSelector.least(3, NATURAL, 4);
+    ConcurrentTopKSelector<Integer> greatest = ConcurrentTopKSelector.greatest(3, NATURAL);
+    List<Integer> values = Arrays.asList(5, 1, 9, 3, 7, 2, 8);
+    least.offerAll(values);
+    greatest.offerAll(values.iterator());
+    assertEquals(Arrays.asList(1, 2, 3), least.topK());
+    assertEquals(Arrays.asList(9, 8, 7), greatest.topK());
+  }
+
+  public void testZero() {
+    ConcurrentTopKSelector<Integer> selector = ConcurrentTopKSelector.least(0, NATURAL);
+    selector.offer(1);
+    assertEquals(Collections.<Integer>emptyList(), selector.topK());
+  }
+
+  public void testInvalidArguments() {
+    try {
+      ConcurrentTopKSelector.least(-1, NATURAL);
+      fail();
+    } catch (IllegalArgumentException expected) {
+    }
+    try {
+      ConcurrentTopKSelector.least(1, NATURAL, 0);
+      fail();
+    } catch (IllegalArgumentException expected) {
+    }
+  }
+
+  public void testConcurrentProducers() throws InterruptedException {
+    final int threads = 4;
+    final int perThread = 20000;
+    final ConcurrentTopKSelector<Integer> selector = ConcurrentTopKSelector.least(50, NATURAL, 2);
+    final List<Integer> all = Collections.synchronizedList(new ArrayList<Integer>());
+    final CountDownLatch start = new CountDownLatch(1);
+    List<Thread> workers = new ArrayList<Thread>();
+    for (int t = 0; t < threads; t++) {
+      final Random random = new Random(t);
+      Thread worker =
+          new Thread() {
+            @Override
+            public void run() {
+              List<Integer> offered = new ArrayList<Integer>();
+              try {
+                start.await();
+              } catch (InterruptedException e) {
+                throw new AssertionError(e);
+              }
+              for (int i = 0; i < perThread; i++) {
+                int value = random.nextInt(1000000);
+                selector.offer(value);
+                offered.add(value);
+                if (i % 5000 == 0) {
+                  // reading mid-stream must not disturb the producers
+                  selector.topK();
+                }
+              }
+              all.addAll(offered);
+            }
+          };
+      worker.start();
+      workers.add(worker);
+    }
+    start.countDown();
+    for (Thread worker : workers) {
+      worker.join();
+    }
+    List<Integer> expected = new ArrayList<Integer>(all);
+    Collections.sort(expected);
+    assertEquals(expected.subList(0, 50), selector.topK());
+  }
+}
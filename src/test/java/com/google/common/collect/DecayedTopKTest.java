@@ -0,0 +1,95 @@
+/*
+ * Copyright (C) 2026 The guava_learn Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.common.collect;
+
+import java.util.Arrays;
+import java.util.Collections;
+import junit.framework.TestCase;
+
+/** Tests for {@link DecayedTopK}. */
+public class DecayedTopKTest extends TestCase {
+
+  public void testScoreHalvesEveryHalfLife() {
+    DecayedTopK<String> trending = DecayedTopK.withHalfLife(10);
+    trending.update("a", 8.0, 100);
+    assertEquals(8.0, trending.score("a", 100), 1e-9);
+    assertEquals(4.0, trending.score("a", 110), 1e-9);
+    assertEquals(1.0, trending.score("a", 130), 1e-9);
+    trending.update("a", 1.0, 130);
+    assertEquals(2.0, trending.score("a", 130), 1e-9);
+    assertEquals(0.0, trending.score("missing", 130), 0.0);
+  }
+
+  public void testRecentActivityOvertakesOldActivity() {
+    DecayedTopK<String> trending = DecayedTopK.withHalfLife(10);
+    trending.update("old", 100.0, 0);
+    trending.update("steady", 10.0, 40);
+    trending.update("new", 20.0, 60);
+    // at time 60: old = 100/64, steady = 10/4, new = 20
+    assertEquals(Arrays.asList("new", "steady", "old"), trending.topK(3));
+    assertEquals(Arrays.asList("new"), trending.topK(1));
+    assertEquals(Collections.emptyList(), trending.topK(0));
+  }
+
+  public void testFarFromLandmarkDoesNotOverflow() {
+    DecayedTopK<String> trending = DecayedTopK.withHalfLife(1);
+    trending.update("a", 1.0, 0);
+    trending.update("b", 1.0, 100000);
+    trending.update("c", 2.0, 100000);
+    assertEquals(Arrays.asList("c", "b", "a"), trending.topK(3));
+    assertEquals(2.0, trending.score("c", 100000), 1e-9);
+  }
+
+  public void testOutOfOrderTimestamps() {
+    DecayedTopK<String> inOrder = DecayedTopK.withHalfLife(5);
+    DecayedTopK<String> outOfOrder = DecayedTopK.withHalfLife(5);
+    inOrder.update("a", 3.0, 10);
+    inOrder.update("a", 2.0, 20);
+    outOfOrder.update("a", 2.0, 20);
+    outOfOrder.update("a", 3.0, 10);
+    assertEquals(inOrder.score("a", 30), outOfOrder.score("a", 30), 1e-9);
+  }
+
+  public void testPrune() {
+    DecayedTopK<String> trending = DecayedTopK.withHalfLife(10);
+    trending.update("a", 1.0, 0);
+    trending.update("b", 100.0, 0);
+    trending.prune(20, 1.0); // a is 0.25, b is 25
+    assertEquals(1, trending.size());
+    assertEquals(0.0, trending.score("a", 20), 0.0);
+    assertEquals(Arrays.asList("b"), trending.topK(5));
+  }
+
+  public void testInvalidArguments() {
+    try {
+      DecayedTopK.withHalfLife(0);
+      fail();
+    } catch (IllegalArgumentException expected) {
+    }
+    DecayedTopK<String> trending = DecayedTopK.withHalfLife(1);
+    try {
+      trending.update("a", 0.0, 0);
+      fail();
+    } catch (IllegalArgumentException expected) {
+    }
+    try {
+      trending.update(null, 1.0, 0);
+      fail();
+    } catch (NullPointerException expected) {
+    }
+  }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (C) 2026 The guava_learn Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.common.collect;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import junit.framework.TestCase;
+
+/** Tests for {@link DistinctTopKSelector}. */
+public class DistinctTopKSelectorTest extends TestCase {
+  private static final Comparator<Integer> NATURAL = Comparator.naturalOrder();
+
+  public void testKeepsBestPerKey() {
+    // key is the last digit
+    DistinctTopKSelector<Integer, Integer> least =
+        DistinctTopKSelector.least(3, NATURAL, v -> v % 10);
+    DistinctTopKSelector<Integer, Integer> greatest =
+        DistinctTopKSelector.greatest(3, NATURAL, v -> v % 10);
+    List<Integer> values = Arrays.asList(31, 11, 42, 12, 93, 3, 55, 21);
+    least.offerAll(values);
+    greatest.offerAll(values.iterator());
+    assertEquals(Arrays.asList(3, 11, 12), least.topK());
+    assertEquals(Arrays.asList(93, 55, 42), greatest.topK());
+  }
+
+  public void testRandomAgainstBruteForce() {
+    Random random = new Random(0);
+    for (int trial = 0; trial < 50; trial++) {
+      int k = random.nextInt(15);
+      int keys = 1 + random.nextInt(40);
+      DistinctTopKSelector<Integer, Integer> selector =
+          DistinctTopKSelector.least(k, NATURAL, v -> v % keys);
+      Map<Integer, Integer> best = new HashMap<Integer, Integer>();
+      for (int i = 0; i < 2000; i++) {
+        int value = random.nextInt(100000);
+        selector.offer(value);
+        Integer previous = best.get(value % keys);
+        if (previous == null || value < previous) {
+          best.put(value % keys, value);
+        }
+      }
+      List<Integer> expected = new ArrayList<Integer>(best.values());
+      Collections.sort(expected);
+      assertEquals(expected.subList(0, Math.min(k, expected.size())), selector.topK());
+    }
+  }
+
+  public void testCombine() {
+    DistinctTopKSelector<Integer, Integer> left =
+        DistinctTopKSelector.least(2, NATURAL, v -> v % 10);
+    DistinctTopKSelector<Integer, Integer> right =
+        DistinctTopKSelector.least(2, NATURAL, v -> v % 10);
+    left.offerAll(Arrays.asList(21, 32, 43));
+    right.offerAll(Arrays.asList(11, 52));
+    assertEquals(Arrays.asList(11, 32), left.combine(right).topK());
+  }
+
+  public void testCollector() {
+    List<Integer> values = Arrays.asList(31, 11, 42, 12, 93, 3, 55, 21);
+    Ordering<Integer> ordering = Ordering.from(NATURAL);
+    assertEquals(
+        Arrays.asList(3, 11, 12),
+        values.parallelStream().collect(ordering.leastKDistinct(v -> v % 10, 3)));
+    assertEquals(
+        Arrays.asList(93, 55, 42),
+        values.parallelStream().collect(ordering.greatestKDistinct(v -> v % 10, 3)));
+  }
+}
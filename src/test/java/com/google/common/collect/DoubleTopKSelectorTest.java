@@ -0,0 +1,95 @@
+/*
+ * Copyright (C) 2026 The guava_learn Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.common.collect;
+
+import java.util.Arrays;
+import java.util.Random;
+import junit.framework.TestCase;
+
+/** Tests for {@link DoubleTopKSelector}. */
+public class DoubleTopKSelectorTest extends TestCase {
+
+  public void testUsesDoubleCompareOrder() {
+    double[] values = {1.5, Double.NaN, -0.0, 0.0, Double.NEGATIVE_INFINITY, -2.5, 3.0};
+    DoubleTopKSelector least = DoubleTopKSelector.least(4);
+    least.offerAll(values);
+    assertTrue(
+        Arrays.equals(new double[] {Double.NEGATIVE_INFINITY, -2.5, -0.0, 0.0}, least.topK()));
+    DoubleTopKSelector greatest = DoubleTopKSelector.greatest(2);
+    greatest.offerAll(values);
+    assertTrue(Arrays.equals(new double[] {Double.NaN, 3.0}, greatest.topK()));
+  }
+
+  public void testSortableBitsIsMonotonic() {
+    double[] ascending = {
+      Double.NEGATIVE_INFINITY, -Double.MAX_VALUE, -1.0, -Double.MIN_VALUE, -0.0, 0.0,
+      Double.MIN_VALUE, 1.0, Double.MAX_VALUE, Double.POSITIVE_INFINITY, Double.NaN
+    };
+    for (int i = 1; i < ascending.length; i++) {
+      assertTrue(
+          DoubleTopKSelector.sortableBits(Double.doubleToLongBits(ascending[i - 1]))
+              < DoubleTopKSelector.sortableBits(Double.doubleToLongBits(ascending[i])));
+    }
+  }
+
+  public void testRandomAgainstSort() {
+    Random random = new Random(0);
+    for (int trial = 0; trial < 50; trial++) {
+      int k = random.nextInt(20);
+      // longer than one conversion chunk
+      double[] values = new double[random.nextInt(1000)];
+      for (int i = 0; i < values.length; i++) {
+        values[i] = random.nextGaussian();
+      }
+      DoubleTopKSelector least = DoubleTopKSelector.least(k);
+      least.offerAll(values, 0, values.length);
+      DoubleTopKSelector greatest = DoubleTopKSelector.greatest(k);
+      for (double value : values) {
+        greatest.offer(value);
+      }
+
+      double[] sorted = values.clone();
+      Arrays.sort(sorted);
+      int size = Math.min(k, values.length);
+      double[] expectedGreatest = new double[size];
+      for (int i = 0; i < size; i++) {
+        expectedGreatest[i] = sorted[sorted.length - 1 - i];
+      }
+      assertTrue(Arrays.equals(Arrays.copyOf(sorted, size), least.topK()));
+      assertTrue(Arrays.equals(expectedGreatest, greatest.topK()));
+    }
+  }
+
+  public void testRepeatedBulkOffersReuseChunk() {
+    Random random = new Random(1);
+    DoubleTopKSelector selector = DoubleTopKSelector.least(10);
+    double[] all = new double[0];
+    for (int call = 0; call < 50; call++) {
+      // lengths on both sides of the conversion chunk size
+      double[] values = new double[random.nextInt(600)];
+      for (int i = 0; i < values.length; i++) {
+        values[i] = random.nextDouble();
+      }
+      selector.offerAll(values);
+      int previousLength = all.length;
+      all = Arrays.copyOf(all, previousLength + values.length);
+      System.arraycopy(values, 0, all, previousLength, values.length);
+    }
+    Arrays.sort(all);
+    assertTrue(Arrays.equals(Arrays.copyOf(all, 10), selector.topK()));
+  }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright (C) 2026 The guava_learn Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.common.collect;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import junit.framework.TestCase;
+
+/** Tests for {@link ExplicitOrdering}. */
+public class ExplicitOrderingTest extends TestCase {
+
+  public void testEnumValues() {
+    Ordering<TimeUnit> ordering =
+        Ordering.explicit(TimeUnit.HOURS, TimeUnit.SECONDS, TimeUnit.DAYS);
+    assertTrue(ordering.compare(TimeUnit.HOURS, TimeUnit.DAYS) < 0);
+    assertTrue(ordering.compare(TimeUnit.DAYS, TimeUnit.SECONDS) > 0);
+    assertEquals(0, ordering.compare(TimeUnit.SECONDS, TimeUnit.SECONDS));
+    assertIncomparable(ordering, TimeUnit.HOURS, TimeUnit.MINUTES);
+  }
+
+  public void testDenseIntegers() {
+    Ordering<Integer> ordering = Ordering.explicit(5, -3, 12, 0);
+    assertTrue(ordering.compare(5, -3) < 0);
+    assertTrue(ordering.compare(0, 12) > 0);
+    assertIncomparable(ordering, 5, 1);
+    assertIncomparable(ordering, 5, 13);
+    assertIncomparable(ordering, 5, Integer.MIN_VALUE);
+  }
+
+  public void testSparseValues() {
+    List<Object> values = new ArrayList<Object>();
+    Random random = new Random(0);
+    for (int i = 0; i < 500; i++) {
+      values.add((i % 2 == 0) ? "s" + random.nextLong() : (Object) (random.nextInt() | 1 << 30));
+    }
+    Ordering<Object> ordering = Ordering.explicit(values);
+    for (int i = 0; i < 1000; i++) {
+      int left = random.nextInt(values.size());
+      int right = random.nextInt(values.size());
+      assertEquals(
+          Integer.signum(left - right),
+          Integer.signum(ordering.compare(values.get(left), values.get(right))));
+    }
+    assertIncomparable(ordering, values.get(0), "absent");
+  }
+
+  public void testSortedCopyIsStable() {
+    Ordering<String> ordering = Ordering.explicit("b", "a", "c");
+    List<String> input = new ArrayList<String>();
+    Random random = new Random(1);
+    for (int i = 0; i < 200; i++) {
+      // distinct objects, so that stability is observable
+      input.add(new String(new char[] {(char) ('a' + random.nextInt(3))}));
+    }
+    List<String> expected = new ArrayList<String>(input);
+    Collections.sort(expected, ordering);
+    List<String> actual = ordering.sortedCopy(input);
+    for (int i = 0; i < expected.size(); i++) {
+      assertSame(expected.get(i), actual.get(i));
+    }
+    assertEquals(expected, ordering.immutableSortedCopy(input));
+  }
+
+  public void testSortedCopyOfIncomparableValue() {
+    try {
+      Ordering.explicit(1, 2).sortedCopy(Arrays.asList(2, 3, 1));
+      fail();
+    } catch (Ordering.IncomparableValueException expected) {
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  public void testSerialization() throws Exception {
+    Ordering<Integer> ordering = Ordering.explicit(3, 1, 2);
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+      out.writeObject(ordering);
+    }
+    Ordering<Integer> copy;
+    try (ObjectInputStream in =
+        new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+      copy = (Ordering<Integer>) in.readObject();
+    }
+    assertEquals(Arrays.asList(3, 1, 2), copy.sortedCopy(Arrays.asList(1, 2, 3)));
+  }
+
+  private static <T> void assertIncomparable(Ordering<T> ordering, T present, T absent) {
+    try {
+      ordering.compare(present, absent);
+      fail();
+    } catch (Ordering.IncomparableValueException expected) {
+    }
+  }
+}
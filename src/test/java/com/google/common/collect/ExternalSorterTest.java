@@ -0,0 +1,190 @@
+/*
+ * Copyright (C) 2026 The guava_learn Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.common.collect;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+import junit.framework.TestCase;
+
+/** Tests for {@link ExternalSorter}. */
+public class ExternalSorterTest extends TestCase {
+
+  /** A key with the position it was read at, to check that ties keep their input order. */
+  private static final class Record {
+    final int key;
+    final int position;
+
+    Record(int key, int position) {
+      this.key = key;
+      this.position = position;
+    }
+
+    @Override
+    public boolean equals(Object object) {
+      return object instanceof Record
+          && ((Record) object).key == key
+          && ((Record) object).position == position;
+    }
+
+    @Override
+    public int hashCode() {
+      return 31 * key + position;
+    }
+
+    @Override
+    public String toString() {
+      return key + "@" + position;
+    }
+  }
+
+  private static final Comparator<Record> BY_KEY =
+      new Comparator<Record>() {
+        @Override
+        public int compare(Record left, Record right) {
+          return Integer.compare(left.key, right.key);
+        }
+      };
+
+  private static final ElementCodec<Record> CODEC =
+      new ElementCodec<Record>() {
+        @Override
+        public byte[] encode(Record element) {
+          return ByteBuffer.allocate(8).putInt(element.key).putInt(element.position).array();
+        }
+
+        @Override
+        public Record decode(ByteBuffer bytes) {
+          return new Record(bytes.getInt(), bytes.getInt());
+        }
+      };
+
+  private Path tempDirectory;
+
+  @Override
+  protected void setUp() throws IOException {
+    tempDirectory = Files.createTempDirectory("external-sorter-test");
+  }
+
+  @Override
+  protected void tearDown() throws IOException {
+    Files.deleteIfExists(tempDirectory);
+  }
+
+  private static List<Record> records(int size, int keyBound, long seed) {
+    Random random = new Random(seed);
+    List<Record> records = new ArrayList<Record>();
+    for (int i = 0; i < size; i++) {
+      records.add(new Record(random.nextInt(keyBound), i));
+    }
+    return records;
+  }
+
+  /** Returns the records sorted stably by key, as Collections.sort does. */
+  private static List<Record> stablySorted(List<Record> records) {
+    List<Record> sorted = new ArrayList<Record>(records);
+    Collections.sort(sorted, BY_KEY);
+    return sorted;
+  }
+
+  private static <T> List<T> drain(Iterator<T> iterator) {
+    List<T> result = new ArrayList<T>();
+    while (iterator.hasNext()) {
+      result.add(iterator.next());
+    }
+    return result;
+  }
+
+  private int tempFileCount() throws IOException {
+    try (Stream<Path> files = Files.list(tempDirectory)) {
+      return (int) files.count();
+    }
+  }
+
+  private ExternalSorter<Record> sorter() {
+    return ExternalSorter.create(BY_KEY, CODEC).withTempDirectory(tempDirectory);
+  }
+
+  public void testSortInMemory() throws IOException {
+    List<Record> records = records(500, 50, 0);
+    assertEquals(stablySorted(records), drain(sorter().sort(records.iterator())));
+    assertEquals(0, tempFileCount());
+  }
+
+  public void testSortSpillsAndMergesStably() throws IOException {
+    List<Record> records = records(5000, 100, 1);
+    ExternalSorter.SortedIterator<Record> sorted =
+        sorter().withMaxElementsInMemory(300).withMaxMergeWidth(3).sort(records.iterator());
+    assertTrue(tempFileCount() > 0);
+    assertEquals(stablySorted(records), drain(sorted));
+    assertEquals(0, tempFileCount());
+  }
+
+  public void testLeastOfInMemoryIsStable() throws IOException {
+    List<Record> records = records(5000, 20, 2);
+    ExternalSorter<Record> sorter = sorter().withMaxElementsInMemory(1000);
+    for (int k : new int[] {0, 1, 7, 100, 500}) {
+      assertEquals(
+          stablySorted(records).subList(0, k), drain(sorter.leastOf(records.iterator(), k)));
+    }
+    assertEquals(0, tempFileCount());
+  }
+
+  public void testLeastOfOnDisk() throws IOException {
+    List<Record> records = records(5000, 20, 3);
+    ExternalSorter.SortedIterator<Record> least =
+        sorter().withMaxElementsInMemory(400).leastOf(records.iterator(), 1500);
+    assertEquals(stablySorted(records).subList(0, 1500), drain(least));
+    assertEquals(0, tempFileCount());
+  }
+
+  public void testCloseDeletesRuns() throws IOException {
+    ExternalSorter.SortedIterator<Record> sorted =
+        sorter().withMaxElementsInMemory(10).sort(records(100, 10, 4).iterator());
+    sorted.next();
+    assertTrue(tempFileCount() > 0);
+    sorted.close();
+    assertEquals(0, tempFileCount());
+    assertFalse(sorted.hasNext());
+  }
+
+  public void testInvalidArguments() throws IOException {
+    try {
+      sorter().withMaxElementsInMemory(0);
+      fail();
+    } catch (IllegalArgumentException expected) {
+    }
+    try {
+      sorter().withMaxMergeWidth(1);
+      fail();
+    } catch (IllegalArgumentException expected) {
+    }
+    try {
+      sorter().leastOf(records(1, 1, 5).iterator(), -1);
+      fail();
+    } catch (IllegalArgumentException expected) {
+    }
+  }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright (C) 2026 The guava_learn Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.common.collect;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import junit.framework.TestCase;
+
+/** Tests for {@link GroupedTopKSelector}. */
+public class GroupedTopKSelectorTest extends TestCase {
+  private static final Comparator<Integer> NATURAL = Comparator.naturalOrder();
+
+  public void testLeastAndGreatestPerGroup() {
+    GroupedTopKSelector<String, Integer> least = GroupedTopKSelector.least(2, NATURAL);
+    GroupedTopKSelector<String, Integer> greatest = GroupedTopKSelector.greatest(2, NATURAL);
+    String[] keys = {"a", "b", "a", "a", "c", "b", "a"};
+    int[] values = {5, 7, 1, 9, 4, 2, 3};
+    for (int i = 0; i < keys.length; i++) {
+      least.offer(keys[i], values[i]);
+      greatest.offer(keys[i], values[i]);
+    }
+    Map<String, List<Integer>> expectedLeast = new HashMap<String, List<Integer>>();
+    expectedLeast.put("a", Arrays.asList(1, 3));
+    expectedLeast.put("b", Arrays.asList(2, 7));
+    expectedLeast.put("c", Arrays.asList(4));
+    assertEquals(expectedLeast, least.topK());
+    Map<String, List<Integer>> expectedGreatest = new HashMap<String, List<Integer>>();
+    expectedGreatest.put("a", Arrays.asList(9, 5));
+    expectedGreatest.put("b", Arrays.asList(7, 2));
+    expectedGreatest.put("c", Arrays.asList(4));
+    assertEquals(expectedGreatest, greatest.topK());
+  }
+
+  public void testNullValues() {
+    GroupedTopKSelector<String, Integer> selector =
+        GroupedTopKSelector.least(2, Ordering.from(NATURAL).nullsFirst());
+    selector.offer("a", 3);
+    selector.offer("a", null);
+    selector.offer("a", 1);
+    List<Integer> top = selector.topK().get("a");
+    assertEquals(Arrays.asList(null, 1), top);
+    try {
+      top.set(0, 5);
+      fail();
+    } catch (UnsupportedOperationException expected) {
+    }
+  }
+
+  public void testZero() {
+    GroupedTopKSelector<String, Integer> selector = GroupedTopKSelector.least(0, NATURAL);
+    selector.offer("a", 1);
+    assertEquals(Collections.emptyMap(), selector.topK());
+  }
+
+  public void testCombineAgainstSort() {
+    Random random = new Random(0);
+    GroupedTopKSelector<Integer, Integer> left = GroupedTopKSelector.least(5, NATURAL);
+    GroupedTopKSelector<Integer, Integer> right = GroupedTopKSelector.least(5, NATURAL);
+    Map<Integer, List<Integer>> all = new HashMap<Integer, List<Integer>>();
+    for (int i = 0; i < 5000; i++) {
+      int key = random.nextInt(30);
+      int value = random.nextInt(1000);
+      (random.nextBoolean() ? left : right).offer(key, value);
+      if (!all.containsKey(key)) {
+        all.put(key, new ArrayList<Integer>());
+      }
+      all.get(key).add(value);
+    }
+    Map<Integer, List<Integer>> expected = new HashMap<Integer, List<Integer>>();
+    for (Map.Entry<Integer, List<Integer>> entry : all.entrySet()) {
+      List<Integer> values = entry.getValue();
+      Collections.sort(values);
+      expected.put(entry.getKey(), values.subList(0, Math.min(5, values.size())));
+    }
+    assertEquals(expected, left.combine(right).topK());
+  }
+
+  public void testInvalidArguments() {
+    try {
+      GroupedTopKSelector.least(-1, NATURAL);
+      fail();
+    } catch (IllegalArgumentException expected) {
+    }
+    try {
+      GroupedTopKSelector.<String, Integer>least(1, NATURAL).offer(null, 1);
+      fail();
+    } catch (NullPointerException expected) {
+    }
+  }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (C) 2026 The guava_learn Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.common.collect;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import junit.framework.TestCase;
+
+/** Tests for {@link HeavyHitters}. */
+public class HeavyHittersTest extends TestCase {
+
+  public void testExactWhileUnderCapacity() {
+    HeavyHitters<String> summary = HeavyHitters.create(10);
+    summary.add("a", 3);
+    summary.add("b");
+    summary.add("a");
+    summary.add("c", 2);
+    assertEquals(7, summary.totalCount());
+    assertEquals(4, summary.estimatedCount("a"));
+    assertEquals(0, summary.errorBound("a"));
+    assertEquals(0, summary.estimatedCount("z"));
+
+    List<Multiset.Entry<String>> top = summary.topK(2);
+    assertEquals(2, top.size());
+    assertEquals("a", top.get(0).getElement());
+    assertEquals(4, top.get(0).getCount());
+    assertEquals("c", top.get(1).getElement());
+    assertEquals(2, top.get(1).getCount());
+  }
+
+  public void testEvictionInheritsError() {
+    HeavyHitters<String> summary = HeavyHitters.create(2);
+    summary.add("a", 5);
+    summary.add("b", 2);
+    summary.add("c"); // takes over b's counter
+    assertEquals(0, summary.estimatedCount("b"));
+    assertEquals(3, summary.estimatedCount("c"));
+    assertEquals(2, summary.errorBound("c"));
+    assertEquals(5, summary.estimatedCount("a"));
+  }
+
+  public void testBoundsOnSkewedStream() {
+    int capacity = 20;
+    HeavyHitters<Integer> summary = HeavyHitters.create(capacity);
+    Map<Integer, Long> trueCounts = new HashMap<Integer, Long>();
+    Random random = new Random(0);
+    for (int i = 0; i < 50000; i++) {
+      // a few heavy elements over a long tail
+      int element = random.nextInt(4) == 0 ? random.nextInt(5) : 5 + random.nextInt(5000);
+      summary.add(element);
+      Long count = trueCounts.get(element);
+      trueCounts.put(element, (count == null) ? 1 : count + 1);
+    }
+    for (Map.Entry<Integer, Long> entry : trueCounts.entrySet()) {
+      long estimate = summary.estimatedCount(entry.getKey());
+      if (entry.getValue() > summary.totalCount() / capacity) {
+        assertTrue("heavy element not tracked: " + entry.getKey(), estimate > 0);
+      }
+      if (estimate > 0) {
+        assertTrue(estimate >= entry.getValue());
+        assertTrue(estimate - summary.errorBound(entry.getKey()) <= entry.getValue());
+      }
+    }
+  }
+
+  public void testMultisetView() {
+    HeavyHitters<String> summary = HeavyHitters.create(4);
+    Multiset<String> view = summary.asMultiset();
+    summary.add("x", 2);
+    summary.add("y");
+    assertEquals(2, view.count("x"));
+    assertTrue(view.contains("y"));
+    assertFalse(view.contains("z"));
+    assertEquals(3, view.size());
+    assertEquals(2, view.elementSet().size());
+    try {
+      view.add("z");
+      fail();
+    } catch (UnsupportedOperationException expected) {
+    }
+  }
+
+  public void testInvalidArguments() {
+    try {
+      HeavyHitters.create(0);
+      fail();
+    } catch (IllegalArgumentException expected) {
+    }
+    HeavyHitters<String> summary = HeavyHitters.create(1);
+    try {
+      summary.add("a", -1);
+      fail();
+    } catch (IllegalArgumentException expected) {
+    }
+    try {
+      summary.add(null);
+      fail();
+    } catch (NullPointerException expected) {
+    }
+  }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright (C) 2026 The guava_learn Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.common.collect;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import junit.framework.TestCase;
+
+/** Tests for {@link IdentityUidTable}. */
+public class IdentityUidTableTest extends TestCase {
+
+  public void testUidsAreStableAndDistinctWithinAHashCode() {
+    IdentityUidTable table = new IdentityUidTable();
+    List<Object> objects = new ArrayList<Object>();
+    Set<Integer> uids = new HashSet<Integer>();
+    for (int i = 0; i < 1000; i++) {
+      Object object = new Object();
+      objects.add(object);
+      int uid = table.uid(object, 42);
+      assertTrue(uid >= 0);
+      assertTrue(uids.add(uid));
+    }
+    for (int i = 0; i < objects.size(); i++) {
+      assertEquals(table.uid(objects.get(i), 42), table.uid(objects.get(i), 42));
+    }
+  }
+
+  public void testConcurrentCallersAgree() throws Exception {
+    final IdentityUidTable table = new IdentityUidTable();
+    final List<Object> objects = new ArrayList<Object>();
+    for (int i = 0; i < 2000; i++) {
+      objects.add(new Object());
+    }
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      List<Future<int[]>> futures = new ArrayList<Future<int[]>>();
+      for (int t = 0; t < 4; t++) {
+        final int offset = t * 500;
+        futures.add(executor.submit(new Callable<int[]>() {
+          @Override
+          public int[] call() {
+            int[] result = new int[objects.size()];
+            for (int i = 0; i < objects.size(); i++) {
+              int index = (i + offset) % objects.size();
+              result[index] = table.uid(objects.get(index), index % 7);
+            }
+            return result;
+          }
+        }));
+      }
+      int[] first = futures.get(0).get();
+      for (Future<int[]> future : futures) {
+        int[] uids = future.get();
+        for (int i = 0; i < uids.length; i++) {
+          assertEquals(first[i], uids[i]);
+        }
+      }
+      for (int hash = 0; hash < 7; hash++) {
+        Set<Integer> distinct = new HashSet<Integer>();
+        for (int i = hash; i < first.length; i += 7) {
+          assertTrue(distinct.add(first[i]));
+        }
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  public void testArbitraryOrderingBreaksHashTies() {
+    Ordering<Object> ordering = new Ordering.ArbitraryOrdering() {
+      @Override
+      int identityHashCode(Object object) {
+        return 0;
+      }
+    };
+    List<Object> objects = new ArrayList<Object>();
+    for (int i = 0; i < 100; i++) {
+      objects.add(new Object());
+    }
+    List<Object> sorted = ordering.sortedCopy(objects);
+    for (int i = 1; i < sorted.size(); i++) {
+      assertTrue(ordering.compare(sorted.get(i - 1), sorted.get(i)) < 0);
+      assertTrue(ordering.compare(sorted.get(i), sorted.get(i - 1)) > 0);
+    }
+    assertEquals(sorted, ordering.sortedCopy(objects));
+    assertTrue(ordering.compare(null, sorted.get(0)) < 0);
+    assertEquals(0, ordering.compare(sorted.get(0), sorted.get(0)));
+  }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright (C) 2026 The guava_learn Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.common.collect;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import junit.framework.TestCase;
+
+/** Tests for {@link IncrementalSortIterator}. */
+public class IncrementalSortIteratorTest extends TestCase {
+  private static final Comparator<Integer> NATURAL = Comparator.naturalOrder();
+
+  private static List<Integer> drain(Iterator<Integer> iterator) {
+    List<Integer> result = new ArrayList<Integer>();
+    while (iterator.hasNext()) {
+      result.add(iterator.next());
+    }
+    return result;
+  }
+
+  public void testRandomAgainstSort() {
+    Random random = new Random(0);
+    for (int trial = 0; trial < 200; trial++) {
+      Integer[] array = new Integer[random.nextInt(300)];
+      int bound = 1 + random.nextInt(100); // small bounds give long runs of duplicates
+      for (int i = 0; i < array.length; i++) {
+        array[i] = random.nextInt(bound);
+      }
+      int limit = random.nextInt(array.length + 10);
+      List<Integer> expected = new ArrayList<Integer>(Arrays.asList(array));
+      Collections.sort(expected);
+      expected = expected.subList(0, Math.min(limit, array.length));
+
+      IncrementalSortIterator<Integer> iterator =
+          new IncrementalSortIterator<Integer>(array.clone(), NATURAL, limit);
+      assertEquals(expected.size(), iterator.remaining());
+      assertEquals(expected, drain(iterator));
+      try {
+        iterator.next();
+        fail();
+      } catch (NoSuchElementException expected2) {
+      }
+    }
+  }
+
+  public void testLazyLeastOfAndTopKIterator() {
+    Ordering<Integer> ordering = Ordering.from(NATURAL);
+    List<Integer> values = Arrays.asList(5, 1, 9, 3, 7, 2, 8);
+    assertEquals(Arrays.asList(1, 2, 3), drain(ordering.lazyLeastOf(values.iterator(), 3)));
+
+    TopKSelector<Integer> selector = TopKSelector.greatest(4, NATURAL);
+    selector.offerAll(values);
+    assertEquals(Arrays.asList(9, 8, 7, 5), drain(selector.topKIterator()));
+  }
+
+  /**
+   * McIlroy's adversary: elements start out as "gas" with no value, and are frozen to concrete
+   * values only as the comparisons force it, in the way that makes quicksort-like algorithms
+   * partition as badly as possible.
+   */
+  private static final class Adversary implements Comparator<Integer> {
+    final int[] values;
+    int frozen;
+    int candidate = -1;
+    long comparisons;
+
+    Adversary(int n) {
+      values = new int[n];
+      Arrays.fill(values, n); // gas compares greater than every frozen value
+    }
+
+    @Override
+    public int compare(Integer x, Integer y) {
+      comparisons++;
+      int gas = values.length;
+      if (values[x] == gas && values[y] == gas) {
+        values[(x == candidate) ? x : y] = frozen++;
+      }
+      if (values[x] == gas) {
+        candidate = x;
+      } else if (values[y] == gas) {
+        candidate = y;
+      }
+      return Integer.compare(values[x], values[y]);
+    }
+  }
+
+  public void testAdversarialInputIsNotQuadratic() {
+    int n = 20000;
+    Integer[] array = new Integer[n];
+    for (int i = 0; i < n; i++) {
+      array[i] = i;
+    }
+    Adversary adversary = new Adversary(n);
+    IncrementalSortIterator<Integer> iterator =
+        new IncrementalSortIterator<Integer>(array, adversary, n);
+    int previous = -1;
+    while (iterator.hasNext()) {
+      int value = adversary.values[iterator.next()];
+      assertTrue(value >= previous);
+      previous = value;
+    }
+    // quadratic behavior would be around n^2 / 2 = 2 * 10^8 comparisons
+    assertTrue("comparisons: " + adversary.comparisons, adversary.comparisons < 20L * n * 15);
+  }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright (C) 2026 The guava_learn Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.common.collect;
+
+import java.util.Arrays;
+import java.util.Random;
+import junit.framework.TestCase;
+
+/** Tests for {@link IntTopKSelector}. */
+public class IntTopKSelectorTest extends TestCase {
+
+  public void testLeast() {
+    IntTopKSelector selector = IntTopKSelector.least(3);
+    for (int value : new int[] {5, 1, 9, 3, 7, 1, 8}) {
+      selector.offer(value);
+    }
+    assertTrue(Arrays.equals(new int[] {1, 1, 3}, selector.topK()));
+  }
+
+  public void testGreatest() {
+    IntTopKSelector selector = IntTopKSelector.greatest(2);
+    selector.offerAll(5, Integer.MIN_VALUE, 9, Integer.MAX_VALUE, 7);
+    assertTrue(Arrays.equals(new int[] {Integer.MAX_VALUE, 9}, selector.topK()));
+  }
+
+  public void testFewerThanK() {
+    IntTopKSelector selector = IntTopKSelector.least(10);
+    selector.offerAll(3, 2, 1);
+    assertTrue(Arrays.equals(new int[] {1, 2, 3}, selector.topK()));
+  }
+
+  public void testZero() {
+    IntTopKSelector selector = IntTopKSelector.least(0);
+    selector.offerAll(3, 2, 1);
+    assertEquals(0, selector.topK().length);
+  }
+
+  public void testNegativeK() {
+    try {
+      IntTopKSelector.least(-1);
+      fail();
+    } catch (IllegalArgumentException expected) {
+    }
+  }
+
+  public void testOfferAllRange() {
+    IntTopKSelector selector = IntTopKSelector.least(2);
+    selector.offerAll(new int[] {0, 9, 8, 7, 1}, 1, 4);
+    assertTrue(Arrays.equals(new int[] {7, 8}, selector.topK()));
+    try {
+      selector.offerAll(new int[3], 2, 4);
+      fail();
+    } catch (IndexOutOfBoundsException expected) {
+    }
+  }
+
+  public void testRandomAgainstSort() {
+    Random random = new Random(0);
+    for (int trial = 0; trial < 100; trial++) {
+      int k = random.nextInt(20);
+      int[] values = new int[random.nextInt(500)];
+      for (int i = 0; i < values.length; i++) {
+        values[i] = random.nextInt(100) - 50;
+      }
+      IntTopKSelector least = IntTopKSelector.least(k);
+      IntTopKSelector greatest = IntTopKSelector.greatest(k);
+      // exercise both the single-value and the bulk paths
+      int split = random.nextInt(values.length + 1);
+      for (int i = 0; i < split; i++) {
+        least.offer(values[i]);
+        greatest.offer(values[i]);
+      }
+      least.offerAll(values, split, values.length);
+      greatest.offerAll(values, split, values.length);
+
+      int[] sorted = values.clone();
+      Arrays.sort(sorted);
+      int size = Math.min(k, values.length);
+      int[] expectedGreatest = new int[size];
+      for (int i = 0; i < size; i++) {
+        expectedGreatest[i] = sorted[sorted.length - 1 - i];
+      }
+      assertTrue(Arrays.equals(Arrays.copyOf(sorted, size), least.topK()));
+      assertTrue(Arrays.equals(expectedGreatest, greatest.topK()));
+    }
+  }
+}
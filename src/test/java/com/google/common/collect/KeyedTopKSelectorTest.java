@@ -0,0 +1,87 @@
+/*
+ * Copyright (C) 2026 The guava_learn Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.common.collect;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import junit.framework.TestCase;
+
+/** Tests for {@link KeyedTopKSelector}. */
+public class KeyedTopKSelectorTest extends TestCase {
+
+  public void testByObjectIsStable() {
+    Random random = new Random(0);
+    for (int trial = 0; trial < 100; trial++) {
+      int k = random.nextInt(40);
+      List<int[]> pairs = new ArrayList<int[]>();
+      KeyedTopKSelector.ByObject<Integer, int[]> selector =
+          KeyedTopKSelector.least(k, Comparator.<Integer>naturalOrder());
+      int size = random.nextInt(1000);
+      for (int i = 0; i < size; i++) {
+        int[] pair = {random.nextInt(10), i}; // many ties
+        pairs.add(pair);
+        selector.offer(pair[0], pair);
+      }
+      // a stable sort by key alone
+      Collections.sort(
+          pairs,
+          new Comparator<int[]>() {
+            @Override
+            public int compare(int[] left, int[] right) {
+              return Integer.compare(left[0], right[0]);
+            }
+          });
+      assertEquals(pairs.subList(0, Math.min(k, size)), selector.topK());
+    }
+  }
+
+  public void testByLong() {
+    KeyedTopKSelector.ByLong<String> selector = KeyedTopKSelector.leastByLong(3);
+    selector.offer(5, "five");
+    selector.offer(Long.MIN_VALUE, "min");
+    selector.offer(2, "two");
+    selector.offer(2, "second two");
+    selector.offer(9, "nine");
+    selector.offer(-1, null);
+    assertEquals(Arrays.asList("min", null, "two"), selector.topK());
+  }
+
+  public void testZero() {
+    KeyedTopKSelector.ByLong<String> selector = KeyedTopKSelector.leastByLong(0);
+    selector.offer(1, "one");
+    assertEquals(Collections.emptyList(), selector.topK());
+  }
+
+  public void testAdversarialPivotsFallBack() {
+    // ascending keys in reverse arrival keep the middle pivot poor; the result must still be right
+    KeyedTopKSelector.ByLong<Integer> selector = KeyedTopKSelector.leastByLong(1000);
+    for (int i = 100000; i > 0; i--) {
+      selector.offer(i % 3000, i);
+    }
+    List<Integer> top = selector.topK();
+    assertEquals(1000, top.size());
+    for (int i = 1; i < top.size(); i++) {
+      int previous = top.get(i - 1) % 3000;
+      int current = top.get(i) % 3000;
+      assertTrue(previous < current || (previous == current && top.get(i - 1) > top.get(i)));
+    }
+  }
+}
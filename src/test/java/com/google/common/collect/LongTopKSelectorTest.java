@@ -0,0 +1,101 @@
+/*
+ * Copyright (C) 2026 The guava_learn Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.common.collect;
+
+import java.util.Arrays;
+import java.util.Random;
+import junit.framework.TestCase;
+
+/** Tests for {@link LongTopKSelector}. */
+public class LongTopKSelectorTest extends TestCase {
+
+  public void testLeast() {
+    LongTopKSelector selector = LongTopKSelector.least(3);
+    for (long value : new long[] {5, 1, 9, 3, 7, 1, 8}) {
+      selector.offer(value);
+    }
+    assertTrue(Arrays.equals(new long[] {1, 1, 3}, selector.topK()));
+  }
+
+  public void testGreatest() {
+    LongTopKSelector selector = LongTopKSelector.greatest(2);
+    selector.offerAll(5, Long.MIN_VALUE, 9, Long.MAX_VALUE, 7);
+    assertTrue(Arrays.equals(new long[] {Long.MAX_VALUE, 9}, selector.topK()));
+  }
+
+  public void testFewerThanK() {
+    LongTopKSelector selector = LongTopKSelector.least(10);
+    selector.offerAll(3, 2, 1);
+    assertTrue(Arrays.equals(new long[] {1, 2, 3}, selector.topK()));
+  }
+
+  public void testZero() {
+    LongTopKSelector selector = LongTopKSelector.least(0);
+    selector.offerAll(3, 2, 1);
+    assertEquals(0, selector.topK().length);
+  }
+
+  public void testNegativeK() {
+    try {
+      LongTopKSelector.least(-1);
+      fail();
+    } catch (IllegalArgumentException expected) {
+    }
+  }
+
+  public void testOfferAllRange() {
+    LongTopKSelector selector = LongTopKSelector.least(2);
+    selector.offerAll(new long[] {0, 9, 8, 7, 1}, 1, 4);
+    assertTrue(Arrays.equals(new long[] {7, 8}, selector.topK()));
+    try {
+      selector.offerAll(new long[3], 2, 4);
+      fail();
+    } catch (IndexOutOfBoundsException expected) {
+    }
+  }
+
+  public void testRandomAgainstSort() {
+    Random random = new Random(0);
+    for (int trial = 0; trial < 100; trial++) {
+      int k = random.nextInt(20);
+      long[] values = new long[random.nextInt(500)];
+      for (int i = 0; i < values.length; i++) {
+        values[i] = random.nextInt(100) - 50;
+      }
+      LongTopKSelector least = LongTopKSelector.least(k);
+      LongTopKSelector greatest = LongTopKSelector.greatest(k);
+      // exercise both the single-value and the bulk paths
+      int split = random.nextInt(values.length + 1);
+      for (int i = 0; i < split; i++) {
+        least.offer(values[i]);
+        greatest.offer(values[i]);
+      }
+      least.offerAll(values, split, values.length);
+      greatest.offerAll(values, split, values.length);
+
+      long[] sorted = values.clone();
+      Arrays.sort(sorted);
+      int size = Math.min(k, values.length);
+      long[] expectedGreatest = new long[size];
+      for (int i = 0; i < size; i++) {
+        expectedGreatest[i] = sorted[sorted.length - 1 - i];
+      }
+      assertTrue(Arrays.equals(Arrays.copyOf(sorted, size), least.topK()));
+      assertTrue(Arrays.equals(expectedGreatest, greatest.topK()));
+    }
+  }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright (C) 2026 The guava_learn Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.common.collect;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import junit.framework.TestCase;
+
+/** Tests for {@link LoserTreeIterator}. */
+public class LoserTreeIteratorTest extends TestCase {
+  private static final Ordering<Integer> BY_TENS =
+      Ordering.from(Comparator.comparingInt((Integer x) -> x / 10));
+
+  public void testMatchesStableSortOfConcatenation() {
+    Random random = new Random(0);
+    for (int k : new int[] {1, 2, 3, 5, 8, 13}) {
+      List<List<Integer>> sources = new ArrayList<List<Integer>>();
+      List<Integer> concatenation = new ArrayList<Integer>();
+      for (int i = 0; i < k; i++) {
+        List<Integer> source = new ArrayList<Integer>();
+        for (int j = random.nextInt(50); j > 0; j--) {
+          // distinct objects, so that stability is observable
+          source.add(Integer.valueOf(1000 + random.nextInt(100)));
+        }
+        Collections.sort(source, BY_TENS);
+        sources.add(source);
+        concatenation.addAll(source);
+      }
+      List<Integer> expected = BY_TENS.sortedCopy(concatenation);
+      List<Integer> actual = new ArrayList<Integer>();
+      for (Iterator<Integer> merged = BY_TENS.mergeSorted(sources); merged.hasNext(); ) {
+        actual.add(merged.next());
+      }
+      assertEquals(expected.size(), actual.size());
+      for (int i = 0; i < expected.size(); i++) {
+        assertSame("k = " + k + " at " + i, expected.get(i), actual.get(i));
+      }
+    }
+  }
+
+  public void testEmptySources() {
+    Ordering<Integer> natural = Ordering.natural();
+    assertFalse(natural.mergeSorted(Collections.<List<Integer>>emptyList()).hasNext());
+    List<List<Integer>> sources = Arrays.asList(
+        Collections.<Integer>emptyList(), Arrays.asList(1, 4), Collections.<Integer>emptyList(),
+        Arrays.asList(2, 3));
+    Iterator<Integer> merged = natural.mergeSorted(sources);
+    assertEquals(Arrays.asList(1, 2, 3, 4), Lists.newArrayList(merged));
+    try {
+      merged.next();
+      fail();
+    } catch (NoSuchElementException expected) {
+    }
+  }
+
+  public void testNullsWithNullSafeOrdering() {
+    Ordering<Integer> ordering = Ordering.<Integer>natural().nullsFirst();
+    List<List<Integer>> sources = Arrays.asList(Arrays.asList(null, 3), Arrays.asList(null, 1, 5));
+    assertEquals(
+        Arrays.asList(null, null, 1, 3, 5), Lists.newArrayList(ordering.mergeSorted(sources)));
+  }
+
+  public void testRemoveUnsupported() {
+    Iterator<Integer> merged =
+        Ordering.<Integer>natural().mergeSorted(Arrays.asList(Arrays.asList(1)));
+    merged.next();
+    try {
+      merged.remove();
+      fail();
+    } catch (UnsupportedOperationException expected) {
+    }
+  }
+
+  public void testImmutableMergeSorted() {
+    List<List<Integer>> sources = Arrays.asList(Arrays.asList(2, 7), Arrays.asList(1, 8, 9));
+    assertEquals(
+        Arrays.asList(1, 2, 7, 8, 9), Ordering.<Integer>natural().immutableMergeSorted(sources));
+  }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright (C) 2026 The guava_learn Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.common.collect;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import junit.framework.TestCase;
+
+/**
+ * Tests for {@link NormalizedKeySort}, which checks that the radix sort used at and above {@link
+ * NormalizedKeySort#THRESHOLD} elements agrees with the comparison sort used below it.
+ */
+public class NormalizedKeySortTest extends TestCase {
+  private static final int[] SIZES = {
+    0, 1, NormalizedKeySort.THRESHOLD - 1, NormalizedKeySort.THRESHOLD, 1000
+  };
+
+  public void testIntegers() {
+    Ordering<Integer> natural = Ordering.natural();
+    List<Ordering<Integer>> orderings = new ArrayList<Ordering<Integer>>();
+    orderings.add(natural);
+    orderings.add(natural.reverse());
+    orderings.add(natural.nullsFirst());
+    orderings.add(natural.nullsLast());
+    orderings.add(natural.reverse().nullsFirst());
+    orderings.add(natural.nullsFirst().reverse());
+    orderings.add(natural.nullsLast().reverse());
+    orderings.add(CompiledOrdering.compile(natural).reverse());
+    Random random = new Random(0);
+    for (Ordering<Integer> ordering : orderings) {
+      boolean nullable = !ordering.equals(natural) && !ordering.equals(natural.reverse())
+          && !ordering.equals(CompiledOrdering.compile(natural).reverse());
+      for (int size : SIZES) {
+        Integer[] array = new Integer[size];
+        for (int i = 0; i < size; i++) {
+          // values above 127 are distinct objects, so stability is observable
+          array[i] = (nullable && random.nextInt(10) == 0)
+              ? null
+              : Integer.valueOf(1000 + random.nextInt(200) - 100);
+        }
+        checkAgainstComparisonSort(array, ordering);
+      }
+    }
+  }
+
+  public void testExtremeLongs() {
+    Long[] array = new Long[NormalizedKeySort.THRESHOLD * 2];
+    Random random = new Random(1);
+    long[] specials = {Long.MIN_VALUE, Long.MAX_VALUE, -1, 0, 1};
+    for (int i = 0; i < array.length; i++) {
+      array[i] = (i % 3 == 0) ? specials[random.nextInt(specials.length)] : random.nextLong();
+    }
+    checkAgainstComparisonSort(array, Ordering.<Long>natural());
+    checkAgainstComparisonSort(array, Ordering.<Long>natural().reverse());
+  }
+
+  public void testStrings() {
+    Ordering<String> natural = Ordering.natural();
+    Ordering<String> byLength = Ordering.from(Comparator.comparingInt(String::length));
+    List<Ordering<String>> orderings = new ArrayList<Ordering<String>>();
+    orderings.add(natural);
+    orderings.add(natural.reverse());
+    orderings.add(natural.compound(byLength));
+    orderings.add(natural.reverse().compound(byLength).nullsLast());
+    Random random = new Random(2);
+    for (Ordering<String> ordering : orderings) {
+      for (int size : SIZES) {
+        String[] array = new String[size];
+        for (int i = 0; i < size; i++) {
+          // short strings over a small alphabet share long prefixes and tie often
+          char[] chars = new char[random.nextInt(7)];
+          for (int j = 0; j < chars.length; j++) {
+            chars[j] = (char) (random.nextInt(3) == 0 ? 0 : 'a' + random.nextInt(3));
+          }
+          array[i] = new String(chars);
+        }
+        checkAgainstComparisonSort(array, ordering);
+      }
+    }
+  }
+
+  public void testLexicographical() {
+    Ordering<Iterable<Integer>> ordering = Ordering.<Integer>natural().lexicographical();
+    Random random = new Random(3);
+    for (int size : SIZES) {
+      @SuppressWarnings("unchecked")
+      List<Integer>[] array = new List[size];
+      for (int i = 0; i < size; i++) {
+        Integer[] elements = new Integer[random.nextInt(4)];
+        for (int j = 0; j < elements.length; j++) {
+          elements[j] = random.nextInt(5) - 2;
+        }
+        array[i] = Arrays.asList(elements);
+      }
+      checkAgainstComparisonSort(array, ordering);
+      checkAgainstComparisonSort(array, ordering.reverse());
+    }
+  }
+
+  public void testUnsupportedIsLeftUntouched() {
+    Double[] array = new Double[NormalizedKeySort.THRESHOLD];
+    Arrays.fill(array, 1.5);
+    assertFalse(NormalizedKeySort.sort(array, Ordering.<Double>natural()));
+    assertFalse(NormalizedKeySort.sort(new Integer[3], Ordering.<Integer>natural().nullsFirst()));
+  }
+
+  /** Checks that the result of sorting array is the same, element for element, as Arrays.sort. */
+  private static <E> void checkAgainstComparisonSort(E[] array, Comparator<? super E> ordering) {
+    E[] expected = array.clone();
+    Arrays.sort(expected, ordering);
+    E[] actual = array.clone();
+    if (!NormalizedKeySort.sort(actual, ordering)) {
+      assertTrue(ordering.toString(), array.length < NormalizedKeySort.THRESHOLD);
+      Arrays.sort(actual, ordering);
+    }
+    for (int i = 0; i < array.length; i++) {
+      assertSame(ordering + " at " + i, expected[i], actual[i]);
+    }
+  }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright (C) 2026 The guava_learn Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.common.collect;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import junit.framework.TestCase;
+
+/** Tests for {@link Ordering}. */
+public class OrderingTest extends TestCase {
+  private static final Ordering<Integer> NUMERICAL =
+      Ordering.from(Comparator.<Integer>naturalOrder());
+
+  private static List<Integer> randomInts(Random random, int size, int bound) {
+    List<Integer> result = new ArrayList<Integer>(size);
+    for (int i = 0; i < size; i++) {
+      result.add(random.nextInt(bound));
+    }
+    return result;
+  }
+
+  public void testLeastKAndGreatestK() {
+    List<Integer> values = Arrays.asList(5, 1, 9, 3, 7, 2, 8);
+    assertEquals(Arrays.asList(1, 2, 3), values.stream().collect(NUMERICAL.leastK(3)));
+    assertEquals(Arrays.asList(9, 8, 7), values.stream().collect(NUMERICAL.greatestK(3)));
+    assertEquals(
+        Arrays.asList(1, 2, 3, 5, 7, 8, 9), values.stream().collect(NUMERICAL.leastK(10)));
+  }
+
+  public void testLeastKParallel() {
+    List<Integer> values = randomInts(new Random(0), 100000, 1000000);
+    List<Integer> sorted = new ArrayList<Integer>(values);
+    Collections.sort(sorted);
+    assertEquals(sorted.subList(0, 100), values.parallelStream().collect(NUMERICAL.leastK(100)));
+    List<Integer> greatest =
+        IntStream.range(0, 100)
+            .mapToObj(i -> sorted.get(sorted.size() - 1 - i))
+            .collect(Collectors.toList());
+    assertEquals(greatest, values.parallelStream().collect(NUMERICAL.greatestK(100)));
+  }
+
+  public void testLeastKNegative() {
+    try {
+      NUMERICAL.leastK(-1);
+      fail();
+    } catch (IllegalArgumentException expected) {
+    }
+  }
+
+  public void testSelectAndQuantiles() {
+    List<Integer> values = Arrays.asList(50, 10, 40, 20, 30);
+    assertEquals(10, (int) NUMERICAL.select(values, 0));
+    assertEquals(30, (int) NUMERICAL.select(values, 2));
+    assertEquals(Arrays.asList(50, 10, 40), NUMERICAL.selectAll(values, 4, 0, 3));
+    assertEquals(Arrays.asList(10, 30, 50), NUMERICAL.quantiles(values, 0.0, 0.5, 1.0));
+    assertEquals(Arrays.asList(50, 10, 40, 20, 30), values); // not modified
+
+    Integer[] array = {50, 10, 40, 20, 30};
+    assertEquals(20, (int) NUMERICAL.selectInPlace(array, 1));
+    assertEquals(20, (int) array[1]);
+  }
+
+  public void testSelectInvalidArguments() {
+    List<Integer> values = Arrays.asList(1, 2, 3);
+    try {
+      NUMERICAL.select(values, 3);
+      fail();
+    } catch (IndexOutOfBoundsException expected) {
+    }
+    try {
+      NUMERICAL.selectAll(values, 0, -1);
+      fail();
+    } catch (IndexOutOfBoundsException expected) {
+    }
+    try {
+      NUMERICAL.quantiles(values, 1.5);
+      fail();
+    } catch (IllegalArgumentException expected) {
+    }
+    try {
+      NUMERICAL.quantiles(Collections.<Integer>emptyList(), 0.5);
+      fail();
+    } catch (NoSuchElementException expected) {
+    }
+  }
+
+  public void testLeastKPerGroup() {
+    List<Integer> values = randomInts(new Random(1), 20000, 1000);
+    Map<Integer, List<Integer>> expectedLeast = new HashMap<Integer, List<Integer>>();
+    Map<Integer, List<Integer>> expectedGreatest = new HashMap<Integer, List<Integer>>();
+    for (int group = 0; group < 10; group++) {
+      List<Integer> members = new ArrayList<Integer>();
+      for (int value : values) {
+        if (value % 10 == group) {
+          members.add(value);
+        }
+      }
+      Collections.sort(members);
+      expectedLeast.put(group, new ArrayList<Integer>(members.subList(0, 3)));
+      Collections.reverse(members);
+      expectedGreatest.put(group, new ArrayList<Integer>(members.subList(0, 3)));
+    }
+    assertEquals(
+        expectedLeast, values.parallelStream().collect(NUMERICAL.leastKPerGroup(v -> v % 10, 3)));
+    assertEquals(
+        expectedGreatest,
+        values.parallelStream().collect(NUMERICAL.greatestKPerGroup(v -> v % 10, 3)));
+  }
+
+  public void testBinarySearchAll() {
+    Random random = new Random(5);
+    for (int size : new int[] {0, 1, 2, 10, 1000}) {
+      List<Integer> sorted = randomInts(random, size, size / 3 + 2);
+      Collections.sort(sorted);
+      // sorted dense keys, sorted sparse keys, and unsorted keys
+      List<Integer> dense = new ArrayList<Integer>();
+      for (int key = -1; key <= size / 3 + 2; key++) {
+        dense.add(key);
+      }
+      List<Integer> sparse = randomInts(random, 5, size / 3 + 3);
+      Collections.sort(sparse);
+      List<Integer> unsorted = randomInts(random, 50, size / 3 + 3);
+      for (List<Integer> keys : Arrays.asList(dense, sparse, unsorted)) {
+        int[] expected = new int[keys.size()];
+        for (int i = 0; i < expected.length; i++) {
+          int key = keys.get(i);
+          int first = 0;
+          while (first < sorted.size() && sorted.get(first) < key) {
+            first++;
+          }
+          boolean found = first < sorted.size() && sorted.get(first) == key;
+          expected[i] = found ? first : Collections.binarySearch(sorted, key);
+        }
+        assertTrue(Arrays.equals(expected, NUMERICAL.binarySearchAll(sorted, keys)));
+        assertTrue(Arrays.equals(
+            expected, NUMERICAL.binarySearchAll(new LinkedList<Integer>(sorted), keys)));
+      }
+    }
+  }
+}
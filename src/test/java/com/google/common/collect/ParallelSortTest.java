@@ -0,0 +1,102 @@
+/*
+ * Copyright (C) 2026 The guava_learn Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.common.collect;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import junit.framework.TestCase;
+
+/** Tests for {@link ParallelSort}. */
+public class ParallelSortTest extends TestCase {
+  private static final Ordering<Integer> BY_HUNDREDS =
+      Ordering.from(Comparator.comparingInt((Integer x) -> x / 100));
+
+  public void testMatchesSequentialStableSort() {
+    ForkJoinPool pool = new ForkJoinPool(4);
+    try {
+      Random random = new Random(0);
+      int[] sizes = {0, 1, ParallelSort.THRESHOLD - 1, ParallelSort.THRESHOLD, 100000};
+      for (int size : sizes) {
+        Integer[] array = new Integer[size];
+        for (int i = 0; i < size; i++) {
+          // many ties, between distinct objects, so that stability is observable
+          array[i] = Integer.valueOf(1000 + random.nextInt(size + 1));
+        }
+        Integer[] expected = array.clone();
+        Arrays.sort(expected, BY_HUNDREDS);
+        ParallelSort.sort(array, BY_HUNDREDS, pool);
+        for (int i = 0; i < size; i++) {
+          assertSame("at " + i + " of " + size, expected[i], array[i]);
+        }
+      }
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  public void testPresortedAndReversedInput() {
+    ForkJoinPool pool = new ForkJoinPool(3);
+    try {
+      Integer[] ascending = new Integer[50000];
+      for (int i = 0; i < ascending.length; i++) {
+        ascending[i] = i;
+      }
+      Integer[] descending = ascending.clone();
+      Collections.reverse(Arrays.asList(descending));
+      Ordering<Integer> natural = Ordering.natural();
+      Integer[] sorted = ascending.clone();
+      ParallelSort.sort(sorted, natural, pool);
+      assertTrue(Arrays.equals(ascending, sorted));
+      ParallelSort.sort(descending, natural, pool);
+      assertTrue(Arrays.equals(ascending, descending));
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  public void testParallelSortedCopy() {
+    ForkJoinPool pool = new ForkJoinPool(2);
+    try {
+      Random random = new Random(1);
+      Integer[] values = new Integer[20000];
+      for (int i = 0; i < values.length; i++) {
+        values[i] = random.nextInt();
+      }
+      List<Integer> input = Arrays.asList(values);
+      Ordering<Integer> ordering = Ordering.<Integer>natural().reverse();
+      assertEquals(ordering.sortedCopy(input), ordering.parallelSortedCopy(input, pool));
+      assertEquals(ordering.sortedCopy(input), ordering.parallelSortedCopy(input));
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  public void testSingleThreadedPool() {
+    ForkJoinPool pool = new ForkJoinPool(1);
+    try {
+      Integer[] array = {3, 1, 2};
+      ParallelSort.sort(array, Ordering.<Integer>natural(), pool);
+      assertEquals(Arrays.asList(1, 2, 3), Arrays.asList(array));
+    } finally {
+      pool.shutdown();
+    }
+  }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright (C) 2026 The guava_learn Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.common.collect;
+
+import java.util.Random;
+import junit.framework.TestCase;
+
+/** Tests for {@link PermutationSort}. */
+public class PermutationSortTest extends TestCase {
+
+  public void testSortsStably() {
+    Random random = new Random(0);
+    for (int n : new int[] {0, 1, 2, 3, 7, 8, 9, 100, 1023, 1025}) {
+      final int[] keys = new int[n];
+      for (int i = 0; i < n; i++) {
+        keys[i] = random.nextInt(5);
+      }
+      int[] permutation =
+          PermutationSort.sortedPermutation(
+              n,
+              new PermutationSort.IndexComparator() {
+                @Override
+                public int compare(int left, int right) {
+                  return Integer.compare(keys[left], keys[right]);
+                }
+              });
+      assertEquals(n, permutation.length);
+      for (int i = 1; i < n; i++) {
+        int previous = permutation[i - 1];
+        int current = permutation[i];
+        assertTrue(
+            keys[previous] < keys[current]
+                || (keys[previous] == keys[current] && previous < current));
+      }
+    }
+  }
+
+  public void testApply() {
+    Object[] array = {"a", "b", "c"};
+    PermutationSort.apply(array, new int[] {2, 0, 1});
+    assertEquals("c", array[0]);
+    assertEquals("a", array[1]);
+    assertEquals("b", array[2]);
+  }
+}
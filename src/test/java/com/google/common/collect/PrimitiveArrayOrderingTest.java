@@ -0,0 +1,150 @@
+/*
+ * Copyright (C) 2026 The guava_learn Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.common.collect;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import junit.framework.TestCase;
+
+/**
+ * Tests for {@link PrimitiveArrayOrdering}, against {@code natural().lexicographical()} on the
+ * boxed elements.
+ */
+public class PrimitiveArrayOrderingTest extends TestCase {
+
+  public void testExamples() {
+    Ordering<int[]> ordering = Ordering.lexicographicalInts();
+    int[][] ascending = {{}, {1}, {1, 1}, {1, 2}, {2}};
+    for (int i = 0; i < ascending.length; i++) {
+      for (int j = 0; j < ascending.length; j++) {
+        assertEquals(
+            Integer.signum(Integer.compare(i, j)),
+            Integer.signum(ordering.compare(ascending[i], ascending[j])));
+      }
+    }
+  }
+
+  public void testInts() {
+    Random random = new Random(0);
+    int[] specials = {Integer.MIN_VALUE, -1, 0, 1, Integer.MAX_VALUE};
+    for (int trial = 0; trial < 1000; trial++) {
+      int[] left = new int[random.nextInt(4)];
+      int[] right = new int[random.nextInt(4)];
+      for (int i = 0; i < left.length; i++) {
+        left[i] = specials[random.nextInt(specials.length)];
+      }
+      for (int i = 0; i < right.length; i++) {
+        right[i] = specials[random.nextInt(specials.length)];
+      }
+      assertSameSign(
+          Ordering.<Integer>natural().lexicographical().compare(boxed(left), boxed(right)),
+          Ordering.lexicographicalInts().compare(left, right));
+    }
+  }
+
+  public void testLongs() {
+    Random random = new Random(1);
+    long[] specials = {Long.MIN_VALUE, -1, 0, 1, Long.MAX_VALUE};
+    for (int trial = 0; trial < 1000; trial++) {
+      long[] left = new long[random.nextInt(4)];
+      long[] right = new long[random.nextInt(4)];
+      List<Long> leftList = new ArrayList<Long>();
+      List<Long> rightList = new ArrayList<Long>();
+      for (int i = 0; i < left.length; i++) {
+        leftList.add(left[i] = specials[random.nextInt(specials.length)]);
+      }
+      for (int i = 0; i < right.length; i++) {
+        rightList.add(right[i] = specials[random.nextInt(specials.length)]);
+      }
+      assertSameSign(
+          Ordering.<Long>natural().lexicographical().compare(leftList, rightList),
+          Ordering.lexicographicalLongs().compare(left, right));
+    }
+  }
+
+  public void testBytesAreSigned() {
+    Random random = new Random(2);
+    for (int trial = 0; trial < 1000; trial++) {
+      byte[] left = new byte[random.nextInt(4)];
+      byte[] right = new byte[random.nextInt(4)];
+      random.nextBytes(left);
+      random.nextBytes(right);
+      List<Byte> leftList = new ArrayList<Byte>();
+      List<Byte> rightList = new ArrayList<Byte>();
+      for (byte b : left) {
+        leftList.add(b);
+      }
+      for (byte b : right) {
+        rightList.add(b);
+      }
+      assertSameSign(
+          Ordering.<Byte>natural().lexicographical().compare(leftList, rightList),
+          Ordering.lexicographicalBytes().compare(left, right));
+    }
+    assertTrue(Ordering.lexicographicalBytes().compare(new byte[] {-128}, new byte[] {127}) < 0);
+  }
+
+  public void testCharsMatchStrings() {
+    Random random = new Random(3);
+    char[] specials = {0, 'a', 'b', '\u7fff', '\uffff'};
+    for (int trial = 0; trial < 1000; trial++) {
+      char[] left = new char[random.nextInt(4)];
+      char[] right = new char[random.nextInt(4)];
+      for (int i = 0; i < left.length; i++) {
+        left[i] = specials[random.nextInt(specials.length)];
+      }
+      for (int i = 0; i < right.length; i++) {
+        right[i] = specials[random.nextInt(specials.length)];
+      }
+      assertSameSign(
+          new String(left).compareTo(new String(right)),
+          Ordering.lexicographicalChars().compare(left, right));
+    }
+  }
+
+  public void testSerializationPreservesSingletons() throws Exception {
+    for (Ordering<?> ordering : new Ordering<?>[] {
+        Ordering.lexicographicalInts(), Ordering.lexicographicalLongs(),
+        Ordering.lexicographicalBytes(), Ordering.lexicographicalChars()}) {
+      ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+      try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+        out.writeObject(ordering);
+      }
+      try (ObjectInputStream in =
+          new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+        assertSame(ordering, in.readObject());
+      }
+    }
+  }
+
+  private static void assertSameSign(int expected, int actual) {
+    assertEquals(Integer.signum(expected), Integer.signum(actual));
+  }
+
+  private static List<Integer> boxed(int[] array) {
+    List<Integer> list = new ArrayList<Integer>();
+    for (int value : array) {
+      list.add(value);
+    }
+    return list;
+  }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright (C) 2026 The guava_learn Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.common.collect;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import junit.framework.TestCase;
+
+/** Tests for {@link PrimitiveKeyOrdering}. */
+public class PrimitiveKeyOrderingTest extends TestCase {
+
+  public void testCompare() {
+    assertTrue(Ordering.<String>onResultOfInt(String::length).compare("a", "bb") < 0);
+    assertTrue(Ordering.<Long>onResultOfLong(x -> x).compare(Long.MAX_VALUE, Long.MIN_VALUE) > 0);
+    Ordering<Double> byDouble = Ordering.onResultOfDouble(x -> x);
+    assertTrue(byDouble.compare(-0.0, 0.0) < 0);
+    assertTrue(byDouble.compare(Double.NaN, Double.POSITIVE_INFINITY) > 0);
+    assertTrue(byDouble.compare(-1.5, -0.5) < 0);
+    assertEquals(0, byDouble.compare(2.0, 2.0));
+  }
+
+  public void testSortedCopyIsStable() {
+    List<Integer> values = randomInts(new Random(0), 1000, 10000);
+    List<Integer> expected = new ArrayList<Integer>(values);
+    Comparator<Integer> byTens = (a, b) -> Integer.compare(a / 10, b / 10);
+    Collections.sort(expected, byTens);
+    assertEquals(expected, Ordering.<Integer>onResultOfInt(x -> x / 10).sortedCopy(values));
+    assertEquals(expected, Ordering.<Integer>onResultOfLong(x -> x / 10).sortedCopy(values));
+    assertEquals(
+        expected, Ordering.<Integer>onResultOfDouble(x -> x / 10).immutableSortedCopy(values));
+  }
+
+  public void testSortedCopyOfDoubles() {
+    List<Double> values = Arrays.asList(3.0, Double.NaN, -0.0, 0.0, Double.NEGATIVE_INFINITY, -2.5);
+    List<Double> expected = new ArrayList<Double>(values);
+    Collections.sort(expected);
+    assertEquals(expected, Ordering.<Double>onResultOfDouble(x -> x).sortedCopy(values));
+  }
+
+  public void testLeastOfIsStable() {
+    List<Integer> values = randomInts(new Random(1), 2000, 10000);
+    Ordering<Integer> ordering = Ordering.onResultOfInt(x -> x / 100);
+    List<Integer> sorted = ordering.sortedCopy(values);
+    for (int k : new int[] {0, 1, 7, 100, 1999, 2000, 5000}) {
+      List<Integer> expected = sorted.subList(0, Math.min(k, sorted.size()));
+      assertEquals(expected, ordering.leastOf(values, k));
+      assertEquals(expected, ordering.leastOf((Iterable<Integer>) values::iterator, k));
+    }
+  }
+
+  public void testBinarySearch() {
+    Ordering<Integer> ordering = Ordering.onResultOfInt(x -> x);
+    List<Integer> sorted = Arrays.asList(1, 3, 5, 7);
+    for (int key = 0; key <= 8; key++) {
+      assertEquals(Collections.binarySearch(sorted, key), ordering.binarySearch(sorted, key));
+    }
+  }
+
+  private static List<Integer> randomInts(Random random, int size, int bound) {
+    List<Integer> result = new ArrayList<Integer>(size);
+    for (int i = 0; i < size; i++) {
+      result.add(random.nextInt(bound));
+    }
+    return result;
+  }
+}
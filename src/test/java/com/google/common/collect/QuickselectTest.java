@@ -0,0 +1,97 @@
+/*
+ * Copyright (C) 2026 The guava_learn Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.common.collect;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+import junit.framework.TestCase;
+
+/** Tests for {@link Quickselect}. */
+public class QuickselectTest extends TestCase {
+  private static final Comparator<Integer> NATURAL = Comparator.naturalOrder();
+
+  private static Integer[] randomArray(Random random, int size, int bound) {
+    Integer[] array = new Integer[size];
+    for (int i = 0; i < size; i++) {
+      array[i] = random.nextInt(bound);
+    }
+    return array;
+  }
+
+  private static void assertSelected(
+      Integer[] sorted, Integer[] array, int from, int to, int rank) {
+    assertEquals(sorted[rank - from], array[rank]);
+    for (int i = from; i < rank; i++) {
+      assertTrue(array[i] <= array[rank]);
+    }
+    for (int i = rank + 1; i < to; i++) {
+      assertTrue(array[i] >= array[rank]);
+    }
+  }
+
+  public void testSelect() {
+    Random random = new Random(0);
+    for (int trial = 0; trial < 200; trial++) {
+      Integer[] array = randomArray(random, 1 + random.nextInt(200), 1 + random.nextInt(50));
+      int from = random.nextInt(array.length);
+      int to = from + 1 + random.nextInt(array.length - from);
+      int rank = from + random.nextInt(to - from);
+      Integer[] sorted = Arrays.copyOfRange(array, from, to);
+      Arrays.sort(sorted);
+      Integer[] before = array.clone();
+      Quickselect.select(array, from, to, rank, NATURAL);
+      assertSelected(sorted, array, from, to, rank);
+      // nothing outside the range moves
+      for (int i = 0; i < array.length; i++) {
+        if (i < from || i >= to) {
+          assertSame(before[i], array[i]);
+        }
+      }
+    }
+  }
+
+  public void testSelectAll() {
+    Random random = new Random(1);
+    for (int trial = 0; trial < 100; trial++) {
+      Integer[] array = randomArray(random, 1 + random.nextInt(500), 100);
+      int[] ranks = new int[random.nextInt(10)];
+      for (int i = 0; i < ranks.length; i++) {
+        ranks[i] = random.nextInt(array.length);
+      }
+      Arrays.sort(ranks);
+      Integer[] sorted = array.clone();
+      Arrays.sort(sorted);
+      Quickselect.selectAll(array, 0, array.length, ranks, NATURAL);
+      for (int rank : ranks) {
+        assertSelected(sorted, array, 0, array.length, rank);
+      }
+    }
+  }
+
+  public void testPartition() {
+    Integer[] array = {5, 3, 8, 1, 9, 2, 7};
+    int pivot = Quickselect.partition(array, 0, array.length - 1, 0, NATURAL);
+    assertEquals(5, (int) array[pivot]);
+    for (int i = 0; i < pivot; i++) {
+      assertTrue(array[i] < 5);
+    }
+    for (int i = pivot + 1; i < array.length; i++) {
+      assertTrue(array[i] >= 5);
+    }
+  }
+}
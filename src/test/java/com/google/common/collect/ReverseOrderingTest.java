@@ -0,0 +1,53 @@
+/*
+ * Copyright (C) 2026 The guava_learn Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.common.collect;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import junit.framework.TestCase;
+
+/** Tests for {@link ReverseOrdering}. */
+public class ReverseOrderingTest extends TestCase {
+  private static final Ordering<Integer> FORWARD =
+      Ordering.from(Comparator.<Integer>naturalOrder());
+
+  public void testCompare() {
+    Ordering<Integer> reverse = FORWARD.reverse();
+    assertTrue(reverse.compare(1, 2) > 0);
+    assertTrue(reverse.compare(2, 1) < 0);
+    assertEquals(0, reverse.compare(3, 3));
+    assertEquals(Arrays.asList(3, 2, 1), reverse.sortedCopy(Arrays.asList(2, 3, 1)));
+  }
+
+  public void testMinAndMax() {
+    Ordering<Integer> reverse = FORWARD.reverse();
+    List<Integer> values = Arrays.asList(4, 1, 7, 3);
+    assertEquals(7, (int) reverse.min(values));
+    assertEquals(7, (int) reverse.min(values.iterator()));
+    assertEquals(7, (int) reverse.min(4, 7));
+    assertEquals(7, (int) reverse.min(4, 1, 7, 3));
+    assertEquals(1, (int) reverse.max(values));
+    assertEquals(1, (int) reverse.max(values.iterator()));
+    assertEquals(1, (int) reverse.max(4, 1));
+    assertEquals(1, (int) reverse.max(4, 1, 7, 3));
+  }
+
+  public void testReverseOfReverse() {
+    assertSame(FORWARD, FORWARD.reverse().reverse());
+  }
+}
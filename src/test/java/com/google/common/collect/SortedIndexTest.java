@@ -0,0 +1,118 @@
+/*
+ * Copyright (C) 2026 The guava_learn Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.common.collect;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import junit.framework.TestCase;
+
+/** Tests for {@link SortedIndex}, against a linear scan and {@link Collections#binarySearch}. */
+public class SortedIndexTest extends TestCase {
+  private static final Ordering<Integer> NUMERICAL =
+      Ordering.from(Comparator.<Integer>naturalOrder());
+
+  public void testBoundsWithDuplicates() {
+    Random random = new Random(0);
+    for (int size = 0; size <= 70; size++) {
+      List<Integer> values = randomInts(random, size, size / 2 + 1);
+      for (Ordering<Integer> ordering :
+          Arrays.asList(NUMERICAL, Ordering.<Integer>onResultOfInt(x -> x))) {
+        SortedIndex<Integer> index = ordering.sortedIndex(values);
+        List<Integer> sorted = index.asList();
+        assertEquals(size, index.size());
+        List<Integer> queries = new ArrayList<Integer>();
+        for (int key = -1; key <= size / 2 + 1; key++) {
+          queries.add(key);
+          assertEquals(lowerBound(sorted, key), index.lowerBound(key));
+          assertEquals(upperBound(sorted, key), index.upperBound(key));
+          int expected = Collections.binarySearch(sorted, key);
+          int actual = index.binarySearch(key);
+          if (expected >= 0) {
+            assertEquals(lowerBound(sorted, key), actual);
+          } else {
+            assertEquals(expected, actual);
+          }
+          assertEquals(
+              sorted.subList(lowerBound(sorted, key), upperBound(sorted, key)),
+              index.equalRange(key));
+        }
+        Collections.shuffle(queries, random);
+        int[] bounds = index.lowerBounds(queries);
+        for (int i = 0; i < queries.size(); i++) {
+          assertEquals(lowerBound(sorted, queries.get(i)), bounds[i]);
+        }
+      }
+    }
+  }
+
+  public void testBinarySearchOfDistinctValues() {
+    Random random = new Random(1);
+    List<Integer> values = new ArrayList<Integer>();
+    for (int i = 0; i < 1000; i++) {
+      values.add(3 * i);
+    }
+    Collections.shuffle(values, random);
+    SortedIndex<Integer> index = NUMERICAL.sortedIndex(values);
+    List<Integer> sorted = index.asList();
+    for (int key = -2; key < 3002; key++) {
+      assertEquals(Collections.binarySearch(sorted, key), index.binarySearch(key));
+    }
+  }
+
+  public void testRange() {
+    SortedIndex<Integer> index = NUMERICAL.sortedIndex(Arrays.asList(5, 1, 3, 3, 9));
+    assertEquals(Arrays.asList(3, 3, 5), index.range(2, 9));
+    assertEquals(Arrays.asList(1, 3, 3, 5, 9), index.range(0, 10));
+    assertEquals(Collections.emptyList(), index.range(9, 2));
+  }
+
+  public void testCreateRejectsUnsortedList() {
+    try {
+      SortedIndex.create(NUMERICAL, ImmutableList.of(1, 3, 2));
+      fail();
+    } catch (IllegalArgumentException expected) {
+    }
+  }
+
+  private static int lowerBound(List<Integer> sorted, int key) {
+    int i = 0;
+    while (i < sorted.size() && sorted.get(i) < key) {
+      i++;
+    }
+    return i;
+  }
+
+  private static int upperBound(List<Integer> sorted, int key) {
+    int i = 0;
+    while (i < sorted.size() && sorted.get(i) <= key) {
+      i++;
+    }
+    return i;
+  }
+
+  private static List<Integer> randomInts(Random random, int size, int bound) {
+    List<Integer> result = new ArrayList<Integer>(size);
+    for (int i = 0; i < size; i++) {
+      result.add(random.nextInt(bound));
+    }
+    return result;
+  }
+}
@@ -0,0 +1,182 @@
+/*
+ * Copyright (C) 2026 The guava_learn Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.common.collect;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import junit.framework.TestCase;
+
+/** Tests for {@link TopKSelector}. */
+public class TopKSelectorTest extends TestCase {
+  private static final Comparator<Integer> NATURAL = Comparator.naturalOrder();
+
+  private static final ElementCodec<Integer> INT_CODEC =
+      new ElementCodec<Integer>() {
+        @Override
+        public byte[] encode(Integer element) {
+          return ByteBuffer.allocate(4).putInt(element).array();
+        }
+
+        @Override
+        public Integer decode(ByteBuffer bytes) {
+          return bytes.getInt();
+        }
+      };
+
+  private static List<Integer> randomInts(Random random, int size) {
+    List<Integer> result = new ArrayList<Integer>(size);
+    for (int i = 0; i < size; i++) {
+      result.add(random.nextInt(1000000));
+    }
+    return result;
+  }
+
+  private static List<Integer> least(List<Integer> values, int k) {
+    List<Integer> sorted = new ArrayList<Integer>(values);
+    Collections.sort(sorted);
+    return sorted.subList(0, Math.min(k, sorted.size()));
+  }
+
+  public void testLeastAndGreatest() {
+    TopKSelector<Integer> least = TopKSelector.least(3, NATURAL);
+    TopKSelector<Integer> greatest = TopKSelector.greatest(3, NATURAL);
+    for (int value : new int[] {5, 1, 9, 3, 7, 2, 8}) {
+      least.offer(value);
+      greatest.offer(value);
+    }
+    assertEquals(Arrays.asList(1, 2, 3), least.topK());
+    assertEquals(Arrays.asList(9, 8, 7), greatest.topK());
+  }
+
+  public void testMerge() {
+    Random random = new Random(0);
+    List<Integer> left = randomInts(random, 1000);
+    List<Integer> right = randomInts(random, 1000);
+    TopKSelector<Integer> leftSelector = TopKSelector.least(50, NATURAL);
+    TopKSelector<Integer> rightSelector = TopKSelector.least(50, NATURAL);
+    leftSelector.offerAll(left);
+    rightSelector.offerAll(right);
+    leftSelector.merge(rightSelector);
+    List<Integer> all = new ArrayList<Integer>(left);
+    all.addAll(right);
+    assertEquals(least(all, 50), leftSelector.topK());
+    assertEquals(least(right, 50), rightSelector.topK());
+  }
+
+  public void testMergeRejectsDifferentK() {
+    TopKSelector<Integer> selector = TopKSelector.least(3, NATURAL);
+    TopKSelector<Integer> smaller = TopKSelector.least(2, NATURAL);
+    smaller.offerAll(Arrays.asList(5, 6, 7));
+    try {
+      selector.merge(smaller);
+      fail();
+    } catch (IllegalArgumentException expected) {
+    }
+    assertEquals(Collections.emptyList(), selector.topK());
+  }
+
+  public void testWriteToAndMergeFrom() throws IOException {
+    Random random = new Random(1);
+    List<Integer> written = randomInts(random, 500);
+    List<Integer> local = randomInts(random, 500);
+    TopKSelector<Integer> writer = TopKSelector.least(20, NATURAL);
+    writer.offerAll(written);
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    writer.writeTo(new DataOutputStream(bytes), INT_CODEC);
+
+    // an equivalent comparator created separately, as it would be in another process
+    TopKSelector<Integer> reader = TopKSelector.least(20, (a, b) -> Integer.compare(a, b));
+    reader.offerAll(local);
+    reader.mergeFrom(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())), INT_CODEC);
+    List<Integer> all = new ArrayList<Integer>(written);
+    all.addAll(local);
+    assertEquals(least(all, 20), reader.topK());
+  }
+
+  public void testMergeFromRejectsDifferentK() throws IOException {
+    TopKSelector<Integer> writer = TopKSelector.least(5, NATURAL);
+    writer.offer(1);
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    writer.writeTo(new DataOutputStream(bytes), INT_CODEC);
+    try {
+      TopKSelector.least(6, NATURAL)
+          .mergeFrom(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())), INT_CODEC);
+      fail();
+    } catch (IllegalArgumentException expected) {
+    }
+  }
+
+  public void testMergeFromRejectsGarbage() {
+    byte[] garbage = {1, 2, 3, 4, 5, 6, 7, 8, 9};
+    try {
+      TopKSelector.least(5, NATURAL)
+          .mergeFrom(new DataInputStream(new ByteArrayInputStream(garbage)), INT_CODEC);
+      fail();
+    } catch (IOException expected) {
+    }
+  }
+
+  /** Ships a selector's state through a loopback socket, as between two processes. */
+  public void testLoopbackRoundTrip() throws Exception {
+    Random random = new Random(2);
+    final List<Integer> remote = randomInts(random, 10000);
+    List<Integer> local = randomInts(random, 10000);
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try (final ServerSocket server = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+      Future<?> sender =
+          executor.submit(
+              () -> {
+                try (Socket socket = new Socket(server.getInetAddress(), server.getLocalPort());
+                    DataOutputStream out = new DataOutputStream(socket.getOutputStream())) {
+                  // a method reference, whose toString() differs from JVM to JVM
+                  TopKSelector<Integer> selector = TopKSelector.least(100, Integer::compare);
+                  selector.offerAll(remote);
+                  selector.writeTo(out, INT_CODEC);
+                }
+                return null;
+              });
+      TopKSelector<Integer> selector = TopKSelector.least(100, NATURAL);
+      selector.offerAll(local);
+      try (Socket socket = server.accept();
+          DataInputStream in = new DataInputStream(socket.getInputStream())) {
+        selector.mergeFrom(in, INT_CODEC);
+      }
+      sender.get();
+      List<Integer> all = new ArrayList<Integer>(remote);
+      all.addAll(local);
+      assertEquals(least(all, 100), selector.topK());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+}
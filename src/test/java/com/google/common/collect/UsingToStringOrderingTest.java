@@ -0,0 +1,74 @@
+/*
+ * Copyright (C) 2026 The guava_learn Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.common.collect;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import junit.framework.TestCase;
+
+/** Tests for {@link UsingToStringOrdering}. */
+public class UsingToStringOrderingTest extends TestCase {
+  private static final Comparator<Object> BY_STRING =
+      (left, right) -> left.toString().compareTo(right.toString());
+
+  public void testCompare() {
+    Ordering<Object> ordering = Ordering.usingToString();
+    assertTrue(ordering.compare(10, 9) < 0);
+    assertTrue(ordering.compare("b", 'a') > 0);
+    assertEquals(0, ordering.compare(7, "7"));
+  }
+
+  public void testSortedCopyIsStable() {
+    List<Object> values = randomValues(new Random(0), 1000);
+    List<Object> expected = new ArrayList<Object>(values);
+    Collections.sort(expected, BY_STRING);
+    for (List<Object> actual : Arrays.asList(
+        Ordering.usingToString().sortedCopy(values),
+        Ordering.usingToString().immutableSortedCopy(values))) {
+      for (int i = 0; i < expected.size(); i++) {
+        assertSame(expected.get(i), actual.get(i));
+      }
+    }
+  }
+
+  public void testLeastOf() {
+    List<Object> values = randomValues(new Random(1), 1000);
+    List<Object> sorted = Ordering.usingToString().sortedCopy(values);
+    for (int k : new int[] {0, 1, 10, 999, 1000, 2000}) {
+      List<Object> least = Ordering.usingToString().leastOf(values, k);
+      assertEquals(Math.min(k, values.size()), least.size());
+      for (int i = 0; i < least.size(); i++) {
+        assertSame(sorted.get(i), least.get(i));
+      }
+    }
+    assertEquals(Arrays.asList(10, 9), Ordering.usingToString().leastOf(Arrays.asList(9, 10), 2));
+  }
+
+  /** Strings and integers, with shared prefixes and many ties between distinct objects. */
+  private static List<Object> randomValues(Random random, int size) {
+    List<Object> result = new ArrayList<Object>(size);
+    for (int i = 0; i < size; i++) {
+      int value = 1000 + random.nextInt(300);
+      result.add(random.nextBoolean() ? Integer.valueOf(value) : "100" + value);
+    }
+    return result;
+  }
+}
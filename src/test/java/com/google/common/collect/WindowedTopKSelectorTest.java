@@ -0,0 +1,134 @@
+/*
+ * Copyright (C) 2026 The guava_learn Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.common.collect;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import junit.framework.TestCase;
+
+/** Tests for {@link WindowedTopKSelector}. */
+public class WindowedTopKSelectorTest extends TestCase {
+  private static final Comparator<Integer> NATURAL = Comparator.naturalOrder();
+
+  public void testTumblingCountWindow() {
+    WindowedTopKSelector<Integer> selector = WindowedTopKSelector.leastOverCount(2, NATURAL, 3, 1);
+    selector.offer(5);
+    selector.offer(1);
+    selector.offer(3);
+    assertEquals(Arrays.asList(1, 3), selector.topK());
+    selector.offer(9); // starts a fresh window
+    assertEquals(Arrays.asList(9), selector.topK());
+  }
+
+  public void testSlidingCountWindowCoverage() {
+    int windowSize = 12;
+    int buckets = 4;
+    int bucketWidth = windowSize / buckets;
+    Random random = new Random(0);
+    WindowedTopKSelector<Integer> least =
+        WindowedTopKSelector.leastOverCount(3, NATURAL, windowSize, buckets);
+    WindowedTopKSelector<Integer> greatest =
+        WindowedTopKSelector.greatestOverCount(3, NATURAL, windowSize, buckets);
+    List<Integer> offered = new ArrayList<Integer>();
+    for (int i = 0; i < 200; i++) {
+      int value = random.nextInt(1000);
+      offered.add(value);
+      least.offer(value);
+      greatest.offer(value);
+      // the window is the current bucket plus the buckets - 1 full ones before it
+      int covered = Math.min(offered.size(), (i % bucketWidth) + 1 + (buckets - 1) * bucketWidth);
+      assertTrue(covered > windowSize - bucketWidth || covered == offered.size());
+      List<Integer> window =
+          new ArrayList<Integer>(offered.subList(offered.size() - covered, offered.size()));
+      Collections.sort(window);
+      assertEquals(window.subList(0, Math.min(3, covered)), least.topK());
+      Collections.reverse(window);
+      assertEquals(window.subList(0, Math.min(3, covered)), greatest.topK());
+    }
+  }
+
+  public void testTimeWindow() {
+    WindowedTopKSelector<Integer> selector = WindowedTopKSelector.leastOverTime(2, NATURAL, 10, 5);
+    selector.offer(4, 0);
+    selector.offer(1, 3);
+    selector.offer(7, 9);
+    assertEquals(Arrays.asList(1, 4), selector.topK(9));
+    // buckets are [0, 2), [2, 4), ...; at time 11 the window is [2, 12)
+    assertEquals(Arrays.asList(1, 7), selector.topK(11));
+    // at time 14 the window is [6, 16)
+    assertEquals(Arrays.asList(7), selector.topK(14));
+    selector.offer(2, -5); // older than the window
+    assertEquals(Arrays.asList(7), selector.topK(14));
+  }
+
+  public void testWrongKindOfOffer() {
+    WindowedTopKSelector<Integer> count = WindowedTopKSelector.leastOverCount(1, NATURAL, 4, 2);
+    try {
+      count.offer(1, 0L);
+      fail();
+    } catch (IllegalStateException expected) {
+    }
+    WindowedTopKSelector<Integer> time = WindowedTopKSelector.leastOverTime(1, NATURAL, 4, 2);
+    try {
+      time.offer(1);
+      fail();
+    } catch (IllegalStateException expected) {
+    }
+  }
+
+  public void testBucketsMustDivideWindow() {
+    try {
+      WindowedTopKSelector.leastOverCount(1, NATURAL, 10, 3);
+      fail();
+    } catch (IllegalArgumentException expected) {
+    }
+    try {
+      WindowedTopKSelector.leastOverTime(1, NATURAL, 10, 0);
+      fail();
+    } catch (IllegalArgumentException expected) {
+    }
+  }
+
+  public void testWindowMustBePositive() {
+    for (long window : new long[] {0, -4}) {
+      try {
+        WindowedTopKSelector.leastOverCount(1, NATURAL, window, 2);
+        fail();
+      } catch (IllegalArgumentException expected) {
+      }
+      try {
+        WindowedTopKSelector.greatestOverCount(1, NATURAL, window, 2);
+        fail();
+      } catch (IllegalArgumentException expected) {
+      }
+      try {
+        WindowedTopKSelector.leastOverTime(1, NATURAL, window, 1);
+        fail();
+      } catch (IllegalArgumentException expected) {
+      }
+      try {
+        WindowedTopKSelector.greatestOverTime(1, NATURAL, window, 1);
+        fail();
+      } catch (IllegalArgumentException expected) {
+      }
+    }
+  }
+}